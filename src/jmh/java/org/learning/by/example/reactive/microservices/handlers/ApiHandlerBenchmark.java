@@ -0,0 +1,48 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.learning.by.example.reactive.microservices.model.SunriseSunset;
+import org.learning.by.example.reactive.microservices.services.GeoLocationService;
+import org.learning.by.example.reactive.microservices.services.SunriseSunsetService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ApiHandlerBenchmark {
+
+    private static final String GOOGLE_ADDRESS = "1600 Amphitheatre Parkway, Mountain View, CA";
+    private static final GeographicCoordinates GOOGLE_LOCATION = new GeographicCoordinates(37.4224082, -122.0856086);
+    private static final SunriseSunset SUNRISE_SUNSET = new SunriseSunset("2017-05-21T12:53:56+00:00",
+            "2017-05-22T03:16:05+00:00");
+    private static final int BULK_CONCURRENCY = 32;
+    private static final double STACK_TRACE_SAMPLE_RATE = 0.01;
+    private static final long SUMMARY_INTERVAL = 60;
+
+    private ApiHandler apiHandler;
+
+    @Setup
+    public void setup() {
+        final GeoLocationService geoLocationService = addressMono -> addressMono.map(address -> GOOGLE_LOCATION);
+        final SunriseSunsetService sunriseSunsetService = (locationMono, date) -> locationMono.map(location -> SUNRISE_SUNSET);
+        final PipelineMetrics pipelineMetrics = new PipelineMetrics(new SimpleMeterRegistry(),
+                ThrowableStatusRegistry.DEFAULT);
+        final ErrorHandler errorHandler = new ErrorHandler(pipelineMetrics,
+                new ErrorLogPolicy(STACK_TRACE_SAMPLE_RATE, SUMMARY_INTERVAL), ThrowableStatusRegistry.DEFAULT);
+        apiHandler = new ApiHandler(geoLocationService, sunriseSunsetService, errorHandler, pipelineMetrics,
+                BULK_CONCURRENCY);
+    }
+
+    @Benchmark
+    public ServerResponse buildResponse() {
+        return Mono.just(GOOGLE_ADDRESS).transform(apiHandler::buildResponse).block();
+    }
+}
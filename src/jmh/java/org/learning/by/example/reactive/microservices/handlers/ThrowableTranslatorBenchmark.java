@@ -0,0 +1,65 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import org.learning.by.example.reactive.microservices.exceptions.GeoLocationNotFoundException;
+import org.learning.by.example.reactive.microservices.exceptions.GetGeoLocationException;
+import org.learning.by.example.reactive.microservices.exceptions.InvalidParametersException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ThrowableTranslatorBenchmark {
+
+    private static final String ADDRESS_NOT_FOUND = "address not found";
+    private static final String ERROR_GETTING_LOCATION = "error getting location";
+    private static final String MISSING_ADDRESS = "missing address";
+
+    private Throwable notFound;
+    private Throwable wrappedInvalidParameters;
+    private Throwable generic;
+
+    @Setup
+    public void setup() {
+        notFound = new GeoLocationNotFoundException(ADDRESS_NOT_FOUND);
+        wrappedInvalidParameters = new GetGeoLocationException(ERROR_GETTING_LOCATION,
+                new InvalidParametersException(MISSING_ADDRESS));
+        generic = new RuntimeException(ERROR_GETTING_LOCATION);
+    }
+
+    @Benchmark
+    public HttpStatus translateNotFound() {
+        return Mono.just(notFound).transform(ThrowableTranslator::translate).block().getHttpStatus();
+    }
+
+    @Benchmark
+    public HttpStatus translateWrappedInvalidParameters() {
+        return Mono.just(wrappedInvalidParameters).transform(ThrowableTranslator::translate).block().getHttpStatus();
+    }
+
+    @Benchmark
+    public HttpStatus translateGeneric() {
+        return Mono.just(generic).transform(ThrowableTranslator::translate).block().getHttpStatus();
+    }
+
+    @Benchmark
+    public HttpStatus statusNotFound() {
+        return ThrowableStatusRegistry.DEFAULT.status(notFound);
+    }
+
+    @Benchmark
+    public HttpStatus statusWrappedInvalidParameters() {
+        return ThrowableStatusRegistry.DEFAULT.status(wrappedInvalidParameters);
+    }
+
+    @Benchmark
+    public HttpStatus statusGeneric() {
+        return ThrowableStatusRegistry.DEFAULT.status(generic);
+    }
+}
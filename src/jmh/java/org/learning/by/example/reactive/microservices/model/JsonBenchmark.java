@@ -0,0 +1,61 @@
+package org.learning.by.example.reactive.microservices.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonBenchmark {
+
+    private static final String GEO_LOCATION_JSON = "/json/GeoLocationResponse_OK.json";
+    private static final String GEO_TIMES_JSON = "/json/GeoTimesResponse_OK.json";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] geoLocationJson;
+    private byte[] geoTimesJson;
+    private LocationResponse locationResponse;
+    private byte[] locationResponseJson;
+
+    @Setup
+    public void setup() throws IOException, URISyntaxException {
+        geoLocationJson = read(GEO_LOCATION_JSON);
+        geoTimesJson = read(GEO_TIMES_JSON);
+        locationResponse = new LocationResponse(new GeographicCoordinates(37.4224082, -122.0856086),
+                new SunriseSunset("2017-05-21T12:53:56+00:00", "2017-05-22T03:16:05+00:00"));
+        locationResponseJson = objectMapper.writeValueAsBytes(locationResponse);
+    }
+
+    @Benchmark
+    public GeoLocationResponse readGeoLocationResponse() throws IOException {
+        return objectMapper.readValue(geoLocationJson, GeoLocationResponse.class);
+    }
+
+    @Benchmark
+    public GeoTimesResponse readGeoTimesResponse() throws IOException {
+        return objectMapper.readValue(geoTimesJson, GeoTimesResponse.class);
+    }
+
+    @Benchmark
+    public LocationResponse readLocationResponse() throws IOException {
+        return objectMapper.readValue(locationResponseJson, LocationResponse.class);
+    }
+
+    @Benchmark
+    public byte[] writeLocationResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(locationResponse);
+    }
+
+    private static byte[] read(final String path) throws IOException, URISyntaxException {
+        return Files.readAllBytes(Paths.get(JsonBenchmark.class.getResource(path).toURI()));
+    }
+}
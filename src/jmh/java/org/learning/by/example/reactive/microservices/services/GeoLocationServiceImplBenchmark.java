@@ -0,0 +1,42 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.learning.by.example.reactive.microservices.model.GeoLocationResponse;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.learning.by.example.reactive.microservices.test.RestServiceHelper.getMonoFromJsonPath;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GeoLocationServiceImplBenchmark {
+
+    private static final String END_POINT = "https://maps.googleapis.com/maps/api/geocode/json";
+    private static final String GOOGLE_ADDRESS = "1600 Amphitheatre Parkway, Mountain View, CA";
+    private static final String JSON_OK = "/json/GeoLocationResponse_OK.json";
+
+    private GeoLocationServiceImpl geoLocationService;
+    private GeoLocationResponse geoLocationResponse;
+
+    @Setup
+    public void setup() {
+        geoLocationService = new GeoLocationServiceImpl(END_POINT);
+        geoLocationResponse = getMonoFromJsonPath(JSON_OK, GeoLocationResponse.class).block();
+    }
+
+    @Benchmark
+    public String buildUrl() {
+        return Mono.just(GOOGLE_ADDRESS).transform(geoLocationService::buildUrl).block();
+    }
+
+    @Benchmark
+    public GeographicCoordinates geometryLocation() {
+        return Mono.just(geoLocationResponse).transform(geoLocationService::geometryLocation).block();
+    }
+}
@@ -0,0 +1,43 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.learning.by.example.reactive.microservices.model.GeoTimesResponse;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.learning.by.example.reactive.microservices.model.SunriseSunset;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.learning.by.example.reactive.microservices.test.RestServiceHelper.getMonoFromJsonPath;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SunriseSunsetServiceImplBenchmark {
+
+    private static final String END_POINT = "https://api.sunrise-sunset.org/json";
+    private static final GeographicCoordinates GOOGLE_LOCATION = new GeographicCoordinates(37.4224082, -122.0856086);
+    private static final String JSON_OK = "/json/GeoTimesResponse_OK.json";
+
+    private SunriseSunsetServiceImpl sunriseSunsetService;
+    private GeoTimesResponse geoTimesResponse;
+
+    @Setup
+    public void setup() {
+        sunriseSunsetService = new SunriseSunsetServiceImpl(END_POINT);
+        geoTimesResponse = getMonoFromJsonPath(JSON_OK, GeoTimesResponse.class).block();
+    }
+
+    @Benchmark
+    public String buildUrl() {
+        return Mono.just(GOOGLE_LOCATION).transform(sunriseSunsetService::buildUrl).block();
+    }
+
+    @Benchmark
+    public SunriseSunset createResult() {
+        return Mono.just(geoTimesResponse).transform(sunriseSunsetService::createResult).block();
+    }
+}
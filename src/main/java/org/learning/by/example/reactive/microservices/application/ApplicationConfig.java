@@ -1,42 +1,266 @@
 package org.learning.by.example.reactive.microservices.application;
 
-import org.learning.by.example.reactive.microservices.handlers.ApiHandler;
-import org.learning.by.example.reactive.microservices.handlers.ErrorHandler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.learning.by.example.reactive.microservices.handlers.*;
 import org.learning.by.example.reactive.microservices.routers.MainRouter;
 import org.learning.by.example.reactive.microservices.services.*;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.server.RouterFunction;
+import reactor.ipc.netty.resources.PoolResources;
+
+import java.nio.file.Paths;
 
 @Configuration
 @EnableWebFlux
 public class ApplicationConfig {
 
+    private static final String LOCAL_PROVIDER = "local";
+    private static final String GAZETTEER_PROVIDER = "gazetteer";
+    private static final String UPSTREAM_POOL = "upstream";
+    private static final String UPSTREAM_OPEN = "upstream.connections.open";
+    private static final String UPSTREAM_ACTIVE = "upstream.connections.active";
+    private static final String UPSTREAM_IDLE = "upstream.connections.idle";
+    private static final String UPSTREAM_PENDING = "upstream.connections.pending";
+    private static final String SUNRISE_SUNSET_CIRCUIT = "sunrise-sunset";
+    private static final String SUNRISE_SUNSET_CIRCUIT_STATE = "upstream.sunrise.circuit.state";
+    private static final String SUNRISE_SUNSET_CIRCUIT_FAILURE_RATE = "upstream.sunrise.circuit.failure.rate";
+
     @Bean
     ApiHandler apiHandler(final GeoLocationService geoLocationService, final SunriseSunsetService sunriseSunsetService,
-                          final ErrorHandler errorHandler) {
-        return new ApiHandler(geoLocationService, sunriseSunsetService, errorHandler);
+                          final ErrorHandler errorHandler, final PipelineMetrics pipelineMetrics,
+                          @Value("${ApiHandler.bulkConcurrency}") final int bulkConcurrency) {
+        return new ApiHandler(geoLocationService, sunriseSunsetService, errorHandler, pipelineMetrics, bulkConcurrency);
+    }
+
+    @Bean
+    SunEventHandler sunEventHandler(final GeoLocationService geoLocationService,
+                                    final SunEventScheduler sunEventScheduler, final ErrorHandler errorHandler,
+                                    @Value("${SunEventHandler.maxLocations}") final int maxLocations) {
+        return new SunEventHandler(geoLocationService, sunEventScheduler, errorHandler, maxLocations);
+    }
+
+    @Bean
+    SunEventScheduler sunEventScheduler() {
+        return new SunEventScheduler();
+    }
+
+    @Bean
+    GeoLocationService locationService(final ClientHttpConnector upstreamConnector,
+                                       final ObjectProvider<PersistentGeoLocationStore> geoLocationStore,
+                                       @Value("${GeoLocationServiceImpl.endPoint}") final String endPoint,
+                                       @Value("${GeoLocationService.provider}") final String provider,
+                                       @Value("${GazetteerGeoLocationService.file}") final String gazetteerFile,
+                                       @Value("${GazetteerGeoLocationService.fallback}") final boolean gazetteerFallback,
+                                       @Value("${GeoLocationServiceCache.enabled}") final boolean cacheEnabled,
+                                       @Value("${GeoLocationServiceCache.maximumSize}") final long cacheMaximumSize,
+                                       @Value("${GeoLocationServiceCache.timeToLive}") final long cacheTimeToLive,
+                                       @Value("${GeoLocationServiceCache.hardTimeToLive}") final long cacheHardTimeToLive,
+                                       @Value("${GeoLocationServiceNegativeCache.enabled}") final boolean negativeCacheEnabled,
+                                       @Value("${GeoLocationServiceNegativeCache.maximumSize}") final long negativeCacheMaximumSize,
+                                       @Value("${GeoLocationServiceNegativeCache.timeToLive}") final long negativeCacheTimeToLive,
+                                       @Value("${GeoLocationServiceRateLimit.enabled}") final boolean rateLimitEnabled,
+                                       @Value("${GeoLocationServiceRateLimit.ratePerSecond}") final double rateLimitRate,
+                                       @Value("${GeoLocationServiceRateLimit.burst}") final int rateLimitBurst,
+                                       @Value("${GeoLocationServiceRateLimit.maxWait}") final long rateLimitMaxWait) {
+        final WebClient geoLocationWebClient = WebClient.builder().clientConnector(upstreamConnector)
+                .exchangeStrategies(ExchangeStrategies.builder()
+                        .codecs(configurer -> configurer.customCodecs().decoder(new GeoLocationResponseDecoder()))
+                        .build())
+                .build();
+        final TokenBucketRateLimiter rateLimiter = rateLimitEnabled ?
+                new TokenBucketRateLimiter(rateLimitRate, rateLimitBurst, rateLimitMaxWait) :
+                TokenBucketRateLimiter.UNLIMITED;
+        final GeoLocationService geoLocationService = negativeCacheEnabled ?
+                new GeoLocationServiceImpl(endPoint, geoLocationWebClient, negativeCacheMaximumSize, negativeCacheTimeToLive,
+                        rateLimiter) :
+                new GeoLocationServiceImpl(endPoint, geoLocationWebClient, rateLimiter);
+        final PersistentGeoLocationStore store = geoLocationStore.getIfAvailable();
+        final GeoLocationService storedGeoLocationService = store != null ?
+                new PersistentGeoLocationService(geoLocationService, store, store.getScheduler()) : geoLocationService;
+        final GeoLocationService providedGeoLocationService = GAZETTEER_PROVIDER.equals(provider) ?
+                new GazetteerGeoLocationService(Paths.get(gazetteerFile),
+                        gazetteerFallback ? storedGeoLocationService : null) : storedGeoLocationService;
+        if (cacheEnabled) {
+            return new CachedGeoLocationService(providedGeoLocationService, cacheMaximumSize, cacheTimeToLive,
+                    cacheHardTimeToLive);
+        }
+        return providedGeoLocationService;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "GeoLocationServiceStore", name = "enabled")
+    PersistentGeoLocationStore geoLocationStore(
+            @Value("${GeoLocationServiceStore.path}") final String path,
+            @Value("${GeoLocationServiceStore.logSize}") final int logSize,
+            @Value("${GeoLocationServiceStore.timeToLive}") final long timeToLive,
+            @Value("${GeoLocationServiceStore.compactionInterval}") final long compactionInterval,
+            @Value("${GeoLocationServiceStore.ioThreads}") final int ioThreads) {
+        return PersistentGeoLocationStore.open(Paths.get(path), logSize, timeToLive, compactionInterval, ioThreads);
+    }
+
+    @Bean
+    SunriseSunsetService sunriseSunsetService(final WebClient upstreamWebClient,
+                                              final CircuitBreaker sunriseSunsetCircuitBreaker,
+                                              @Value("${SunriseSunsetServiceImpl.endPoint}") final String endPoint,
+                                              @Value("${SunriseSunsetService.provider}") final String provider,
+                                              @Value("${SunriseSunsetServiceCache.enabled}") final boolean cacheEnabled,
+                                              @Value("${SunriseSunsetServiceCache.maximumSize}") final long cacheMaximumSize,
+                                              @Value("${SunriseSunsetServiceCache.geohashPrecision}") final int cachePrecision,
+                                              @Value("${SunriseSunsetServiceCache.timeToLive}") final long cacheTimeToLive,
+                                              @Value("${SunriseSunsetServiceCache.hardTimeToLive}") final long cacheHardTimeToLive,
+                                              @Value("${SunriseSunsetServiceRateLimit.enabled}") final boolean rateLimitEnabled,
+                                              @Value("${SunriseSunsetServiceRateLimit.ratePerSecond}") final double rateLimitRate,
+                                              @Value("${SunriseSunsetServiceRateLimit.burst}") final int rateLimitBurst,
+                                              @Value("${SunriseSunsetServiceRateLimit.maxWait}") final long rateLimitMaxWait,
+                                              @Value("${SunriseSunsetServiceCircuitBreaker.fallback}") final boolean fallback) {
+        final TokenBucketRateLimiter rateLimiter = rateLimitEnabled ?
+                new TokenBucketRateLimiter(rateLimitRate, rateLimitBurst, rateLimitMaxWait) :
+                TokenBucketRateLimiter.UNLIMITED;
+        final SunriseSunsetService sunriseSunsetService = LOCAL_PROVIDER.equals(provider) ?
+                new LocalSunriseSunsetService() :
+                new SunriseSunsetServiceImpl(endPoint, upstreamWebClient, rateLimiter, sunriseSunsetCircuitBreaker,
+                        fallback ? new LocalSunriseSunsetService() : null);
+        if (cacheEnabled) {
+            return new CachedSunriseSunsetService(sunriseSunsetService, cacheMaximumSize, cachePrecision,
+                    cacheTimeToLive, cacheHardTimeToLive);
+        }
+        return sunriseSunsetService;
+    }
+
+    @Bean
+    CircuitBreaker sunriseSunsetCircuitBreaker(
+            @Value("${SunriseSunsetServiceCircuitBreaker.enabled}") final boolean enabled,
+            @Value("${SunriseSunsetServiceCircuitBreaker.windowSize}") final int windowSize,
+            @Value("${SunriseSunsetServiceCircuitBreaker.minimumCalls}") final int minimumCalls,
+            @Value("${SunriseSunsetServiceCircuitBreaker.failureRateThreshold}") final double failureRateThreshold,
+            @Value("${SunriseSunsetServiceCircuitBreaker.slowCallDuration}") final long slowCallDuration,
+            @Value("${SunriseSunsetServiceCircuitBreaker.callTimeout}") final long callTimeout,
+            @Value("${SunriseSunsetServiceCircuitBreaker.slowCallRateThreshold}") final double slowCallRateThreshold,
+            @Value("${SunriseSunsetServiceCircuitBreaker.openDuration}") final long openDuration,
+            @Value("${SunriseSunsetServiceCircuitBreaker.halfOpenCalls}") final int halfOpenCalls) {
+        if (!enabled) {
+            return CircuitBreaker.DISABLED;
+        }
+        return CircuitBreaker.builder(SUNRISE_SUNSET_CIRCUIT)
+                .windowSize(windowSize)
+                .minimumCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDuration(slowCallDuration)
+                .callTimeout(callTimeout)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .openDuration(openDuration)
+                .halfOpenCalls(halfOpenCalls)
+                .build();
+    }
+
+    @Bean
+    UpstreamConnectionMetrics upstreamConnectionMetrics(
+            @Value("${UpstreamHttpClient.maxConnections}") final int maxConnections,
+            @Value("${UpstreamHttpClient.acquireTimeout}") final long acquireTimeout) {
+        return new UpstreamConnectionMetrics(PoolResources.fixed(UPSTREAM_POOL, maxConnections, acquireTimeout));
+    }
+
+    @Bean
+    ClientHttpConnector upstreamConnector(final UpstreamConnectionMetrics upstreamConnectionMetrics,
+                                          @Value("${UpstreamHttpClient.keepAlive}") final boolean keepAlive,
+                                          @Value("${UpstreamHttpClient.connectTimeout}") final int connectTimeout) {
+        return new ReactorClientHttpConnector(options -> {
+            if (keepAlive) {
+                options.poolResources(upstreamConnectionMetrics);
+            } else {
+                options.disablePool();
+            }
+            options.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout);
+        });
+    }
+
+    @Bean
+    WebClient upstreamWebClient(final ClientHttpConnector upstreamConnector) {
+        return WebClient.builder().clientConnector(upstreamConnector).build();
+    }
+
+    @Bean
+    PrometheusMeterRegistry meterRegistry(final UpstreamConnectionMetrics upstreamConnectionMetrics,
+                                          final CircuitBreaker sunriseSunsetCircuitBreaker) {
+        final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        Gauge.builder(UPSTREAM_OPEN, upstreamConnectionMetrics, UpstreamConnectionMetrics::getOpen).register(registry);
+        Gauge.builder(UPSTREAM_ACTIVE, upstreamConnectionMetrics, UpstreamConnectionMetrics::getActive).register(registry);
+        Gauge.builder(UPSTREAM_IDLE, upstreamConnectionMetrics, UpstreamConnectionMetrics::getIdle).register(registry);
+        Gauge.builder(UPSTREAM_PENDING, upstreamConnectionMetrics, UpstreamConnectionMetrics::getPendingAcquires)
+                .register(registry);
+        Gauge.builder(SUNRISE_SUNSET_CIRCUIT_STATE, sunriseSunsetCircuitBreaker,
+                circuitBreaker -> circuitBreaker.getState().ordinal()).register(registry);
+        Gauge.builder(SUNRISE_SUNSET_CIRCUIT_FAILURE_RATE, sunriseSunsetCircuitBreaker, CircuitBreaker::getFailureRate)
+                .register(registry);
+        return registry;
+    }
+
+    @Bean
+    ThrowableStatusRegistry throwableStatusRegistry() {
+        return ThrowableStatusRegistry.defaults().build();
+    }
+
+    @Bean
+    PipelineMetrics pipelineMetrics(final PrometheusMeterRegistry meterRegistry,
+                                    final ThrowableStatusRegistry throwableStatusRegistry) {
+        return new PipelineMetrics(meterRegistry, throwableStatusRegistry);
+    }
+
+    @Bean
+    RequestMetricsFilter requestMetricsFilter(final PrometheusMeterRegistry meterRegistry) {
+        return new RequestMetricsFilter(meterRegistry);
+    }
+
+    @Bean
+    MetricsHandler metricsHandler(final PrometheusMeterRegistry meterRegistry) {
+        return new MetricsHandler(meterRegistry);
+    }
+
+    @Bean
+    ErrorLogPolicy errorLogPolicy(@Value("${ErrorHandler.stackTraceSampleRate}") final double stackTraceSampleRate,
+                                  @Value("${ErrorHandler.summaryInterval}") final long summaryInterval) {
+        return new ErrorLogPolicy(stackTraceSampleRate, summaryInterval);
     }
 
     @Bean
-    GeoLocationService locationService(@Value("${GeoLocationServiceImpl.endPoint}") final String endPoint) {
-        return new GeoLocationServiceImpl(endPoint);
+    ErrorHandler errorHandler(final PipelineMetrics pipelineMetrics, final ErrorLogPolicy errorLogPolicy,
+                              final ThrowableStatusRegistry throwableStatusRegistry) {
+        return new ErrorHandler(pipelineMetrics, errorLogPolicy, throwableStatusRegistry);
     }
 
     @Bean
-    SunriseSunsetService sunriseSunsetService(@Value("${SunriseSunsetServiceImpl.endPoint}") final String endPoint) {
-        return new SunriseSunsetServiceImpl(endPoint);
+    @ConditionalOnProperty(prefix = "CacheWarmer", name = "enabled")
+    CacheWarmer cacheWarmer(final GeoLocationService geoLocationService,
+                            final SunriseSunsetService sunriseSunsetService,
+                            @Value("${CacheWarmer.seedFile}") final String seedFile,
+                            @Value("${CacheWarmer.concurrency}") final int concurrency,
+                            @Value("${CacheWarmer.ratePerSecond}") final int ratePerSecond,
+                            @Value("${CacheWarmer.readyFraction}") final double readyFraction) {
+        return new CacheWarmer(geoLocationService, sunriseSunsetService, Paths.get(seedFile), concurrency,
+                ratePerSecond, readyFraction);
     }
 
     @Bean
-    ErrorHandler errorHandler() {
-        return new ErrorHandler();
+    ReadinessHandler readinessHandler(final ObjectProvider<CacheWarmer> cacheWarmer) {
+        return new ReadinessHandler(cacheWarmer.getIfAvailable());
     }
 
     @Bean
-    RouterFunction<?> mainRouterFunction(final ApiHandler apiHandler, final ErrorHandler errorHandler) {
-        return MainRouter.doRoute(apiHandler, errorHandler);
+    RouterFunction<?> mainRouterFunction(final ApiHandler apiHandler, final SunEventHandler sunEventHandler,
+                                         final ErrorHandler errorHandler, final MetricsHandler metricsHandler,
+                                         final ReadinessHandler readinessHandler) {
+        return MainRouter.doRoute(apiHandler, sunEventHandler, errorHandler, metricsHandler, readinessHandler);
     }
 }
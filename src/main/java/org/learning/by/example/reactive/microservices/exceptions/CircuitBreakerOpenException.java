@@ -0,0 +1,15 @@
+package org.learning.by.example.reactive.microservices.exceptions;
+
+public class CircuitBreakerOpenException extends Exception {
+
+    public static final CircuitBreakerOpenException CIRCUIT_OPEN =
+            new CircuitBreakerOpenException("upstream circuit is open", false);
+
+    public CircuitBreakerOpenException(final String message) {
+        super(message);
+    }
+
+    public CircuitBreakerOpenException(final String message, final boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+}
@@ -2,7 +2,14 @@ package org.learning.by.example.reactive.microservices.exceptions;
 
 public class GeoLocationNotFoundException extends Exception{
 
+    public static final GeoLocationNotFoundException ADDRESS_NOT_FOUND =
+            new GeoLocationNotFoundException("address not found", false);
+
     public GeoLocationNotFoundException(final String message) {
         super(message);
     }
+
+    public GeoLocationNotFoundException(final String message, final boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
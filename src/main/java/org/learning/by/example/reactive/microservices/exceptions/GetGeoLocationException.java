@@ -1,6 +1,12 @@
 package org.learning.by.example.reactive.microservices.exceptions;
 
 public class GetGeoLocationException extends Exception {
+
+    public static final GetGeoLocationException ERROR_GETTING_LOCATION =
+            new GetGeoLocationException("error getting location", false);
+    public static final GetGeoLocationException LOCATION_WAS_NULL =
+            new GetGeoLocationException("error location was null", false);
+
     public GetGeoLocationException(final String message, final Throwable throwable) {
         super(message, throwable);
     }
@@ -8,4 +14,12 @@ public class GetGeoLocationException extends Exception {
     public GetGeoLocationException(final String message) {
         super(message);
     }
+
+    public GetGeoLocationException(final String message, final Throwable throwable, final boolean writableStackTrace) {
+        super(message, throwable, false, writableStackTrace);
+    }
+
+    public GetGeoLocationException(final String message, final boolean writableStackTrace) {
+        this(message, null, writableStackTrace);
+    }
 }
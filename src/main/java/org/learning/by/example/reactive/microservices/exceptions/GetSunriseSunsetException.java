@@ -2,6 +2,9 @@ package org.learning.by.example.reactive.microservices.exceptions;
 
 public class GetSunriseSunsetException extends Exception {
 
+    public static final GetSunriseSunsetException RESULT_NOT_OK =
+            new GetSunriseSunsetException("sunrise and sunrise result was not OK", false);
+
     public GetSunriseSunsetException(final String message, final Throwable throwable) {
         super(message, throwable);
     }
@@ -9,4 +12,12 @@ public class GetSunriseSunsetException extends Exception {
     public GetSunriseSunsetException(final String message) {
         super(message);
     }
+
+    public GetSunriseSunsetException(final String message, final Throwable throwable, final boolean writableStackTrace) {
+        super(message, throwable, false, writableStackTrace);
+    }
+
+    public GetSunriseSunsetException(final String message, final boolean writableStackTrace) {
+        this(message, null, writableStackTrace);
+    }
 }
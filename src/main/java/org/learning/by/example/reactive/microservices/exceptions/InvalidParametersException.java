@@ -2,7 +2,24 @@ package org.learning.by.example.reactive.microservices.exceptions;
 
 public class InvalidParametersException extends Exception {
 
+    public static final InvalidParametersException MISSING_ADDRESS =
+            new InvalidParametersException("missing address", false);
+    public static final InvalidParametersException INVALID_COORDINATES =
+            new InvalidParametersException("invalid coordinates", false);
+    public static final InvalidParametersException INVALID_DATES =
+            new InvalidParametersException("invalid dates", false);
+    public static final InvalidParametersException MISSING_LOCATIONS =
+            new InvalidParametersException("missing locations", false);
+    public static final InvalidParametersException TOO_MANY_LOCATIONS =
+            new InvalidParametersException("too many locations", false);
+    public static final InvalidParametersException INVALID_REQUEST =
+            new InvalidParametersException("invalid request", false);
+
     public InvalidParametersException(final String message) {
         super(message);
     }
+
+    public InvalidParametersException(final String message, final boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -2,7 +2,13 @@ package org.learning.by.example.reactive.microservices.exceptions;
 
 public class PathNotFoundException extends Exception {
 
+    public static final PathNotFoundException NOT_FOUND = new PathNotFoundException("not found", false);
+
     public PathNotFoundException(final String message) {
         super(message);
     }
+
+    public PathNotFoundException(final String message, final boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
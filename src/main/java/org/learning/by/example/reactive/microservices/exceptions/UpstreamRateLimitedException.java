@@ -0,0 +1,17 @@
+package org.learning.by.example.reactive.microservices.exceptions;
+
+public class UpstreamRateLimitedException extends Exception {
+
+    public static final UpstreamRateLimitedException RATE_LIMITED =
+            new UpstreamRateLimitedException("upstream rate limit exceeded", false);
+    public static final UpstreamRateLimitedException OVER_QUERY_LIMIT =
+            new UpstreamRateLimitedException("upstream query limit exceeded", false);
+
+    public UpstreamRateLimitedException(final String message) {
+        super(message);
+    }
+
+    public UpstreamRateLimitedException(final String message, final boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+}
@@ -1,37 +1,61 @@
 package org.learning.by.example.reactive.microservices.handlers;
 
-import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
-import org.learning.by.example.reactive.microservices.model.LocationRequest;
-import org.learning.by.example.reactive.microservices.model.LocationResponse;
-import org.learning.by.example.reactive.microservices.model.SunriseSunset;
+import org.learning.by.example.reactive.microservices.exceptions.InvalidParametersException;
+import org.learning.by.example.reactive.microservices.model.*;
 import org.learning.by.example.reactive.microservices.services.GeoLocationService;
 import org.learning.by.example.reactive.microservices.services.SunriseSunsetService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.springframework.http.MediaType.APPLICATION_STREAM_JSON;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM;
+
 public class ApiHandler {
 
     private static final String ADDRESS = "address";
     private static final String EMPTY_STRING = "";
+    private static final String LATITUDE = "lat";
+    private static final String LONGITUDE = "lng";
+    private static final String DATE = "date";
+    private static final String FROM = "from";
+    private static final String TO = "to";
+    private static final long MAX_DAYS = 366;
+    private static final double MAX_LATITUDE = 90;
+    private static final double MAX_LONGITUDE = 180;
+    private static final double HINT_TOLERANCE = 0.1;
+    private static final LocationRequest EMPTY_REQUEST = new LocationRequest(EMPTY_STRING);
 
     private final ErrorHandler errorHandler;
 
     private final GeoLocationService geoLocationService;
     private final SunriseSunsetService sunriseSunsetService;
+    private final PipelineMetrics pipelineMetrics;
+    private final int bulkConcurrency;
 
     public ApiHandler(final GeoLocationService geoLocationService, final SunriseSunsetService sunriseSunsetService,
-                      final ErrorHandler errorHandler) {
+                      final ErrorHandler errorHandler, final PipelineMetrics pipelineMetrics,
+                      final int bulkConcurrency) {
         this.errorHandler = errorHandler;
         this.geoLocationService = geoLocationService;
         this.sunriseSunsetService = sunriseSunsetService;
+        this.pipelineMetrics = pipelineMetrics;
+        this.bulkConcurrency = bulkConcurrency;
     }
 
     public Mono<ServerResponse> postLocation(final ServerRequest request) {
         return request.bodyToMono(LocationRequest.class)
-                .map(LocationRequest::getAddress)
-                .onErrorResume(throwable -> Mono.just(EMPTY_STRING))
-                .transform(this::buildResponse)
+                .onErrorResume(throwable -> Mono.just(EMPTY_REQUEST))
+                .flatMap(this::locationResponse)
+                .transform(this::serverResponse)
                 .onErrorResume(errorHandler::throwableError);
     }
 
@@ -41,19 +65,164 @@ public class ApiHandler {
                 .onErrorResume(errorHandler::throwableError);
     }
 
+    public Mono<ServerResponse> getSunriseSunset(final ServerRequest request) {
+        final Optional<String> date = request.queryParam(DATE);
+        return Mono.defer(() -> coordinates(request.queryParam(LATITUDE).orElse(null),
+                request.queryParam(LONGITUDE).orElse(null)))
+                .transform(coordinates -> date.isPresent() ?
+                        coordinatesResponse(coordinates, date.get()) : coordinatesResponse(coordinates))
+                .transform(this::serverResponse)
+                .onErrorResume(errorHandler::throwableError);
+    }
+
+    public Mono<ServerResponse> getSunriseSunsetDays(final ServerRequest request) {
+        final MediaType mediaType = request.headers().accept().contains(TEXT_EVENT_STREAM) ?
+                TEXT_EVENT_STREAM : APPLICATION_STREAM_JSON;
+        return Mono.defer(() -> coordinates(request.queryParam(LATITUDE).orElse(null),
+                request.queryParam(LONGITUDE).orElse(null)))
+                .and(geographicCoordinates -> dates(request.queryParam(FROM).orElse(null),
+                        request.queryParam(TO).orElse(null)), this::days)
+                .flatMap(days -> ServerResponse.ok().contentType(mediaType).body(days, DailySunriseSunset.class))
+                .onErrorResume(errorHandler::throwableError);
+    }
+
+    public Mono<ServerResponse> postLocations(final ServerRequest request) {
+        return FirstElement.split(request.bodyToFlux(LocationRequest.class)
+                .onErrorResume(throwable -> Mono.error(InvalidParametersException.INVALID_REQUEST)))
+                .defaultIfEmpty(Flux.empty())
+                .map(locationRequests -> locationRequests
+                        .flatMap(this::bulkLocation, bulkConcurrency)
+                        .onErrorResume(throwable -> Mono.just(bulkError(EMPTY_STRING, throwable))))
+                .flatMap(responses -> ServerResponse.ok().contentType(APPLICATION_STREAM_JSON)
+                        .body(responses, BulkLocationResponse.class))
+                .onErrorResume(errorHandler::throwableError);
+    }
+
     Mono<ServerResponse> buildResponse(final Mono<String> address) {
         return address
-                .transform(geoLocationService::fromAddress)
-                .and(this::sunriseSunset, LocationResponse::new)
+                .transform(this::locationResponse)
                 .transform(this::serverResponse);
     }
 
+    Mono<BulkLocationResponse> bulkLocation(final LocationRequest locationRequest) {
+        final String address = locationRequest.getAddress() != null ? locationRequest.getAddress() : EMPTY_STRING;
+        return locationResponse(locationRequest)
+                .map(locationResponse -> new BulkLocationResponse(address, HttpStatus.OK.value(), locationResponse, null))
+                .onErrorResume(throwable -> Mono.just(bulkError(address, throwable)));
+    }
+
+    private BulkLocationResponse bulkError(final String address, final Throwable throwable) {
+        final ThrowableTranslator translation = errorHandler.translate(throwable);
+        return new BulkLocationResponse(address, translation.getHttpStatus().value(), null,
+                new ErrorResponse(translation.getMessage()));
+    }
+
+    Mono<LocationResponse> locationResponse(final LocationRequest locationRequest) {
+        final String address = locationRequest.getAddress() != null ? locationRequest.getAddress() : EMPTY_STRING;
+        if (locationRequest.getLatitude() == null && locationRequest.getLongitude() == null) {
+            return Mono.just(address).transform(this::locationResponse);
+        }
+        final Mono<GeographicCoordinates> hint = coordinates(locationRequest.getLatitude(), locationRequest.getLongitude());
+        if (address.isEmpty()) {
+            return hint.transform(this::coordinatesResponse);
+        }
+        return hint.flatMap(geographicCoordinates -> speculativeLocationResponse(address, geographicCoordinates));
+    }
+
+    private Mono<LocationResponse> speculativeLocationResponse(final String address, final GeographicCoordinates hint) {
+        final Mono<GeographicCoordinates> located = pipelineMetrics.timed(PipelineMetrics.GEO_LOCATION_STAGE,
+                Mono.just(address).transform(geoLocationService::fromAddress));
+        final Mono<Optional<SunriseSunset>> speculative = sunriseSunset(hint)
+                .map(Optional::of)
+                .onErrorReturn(Optional.empty())
+                .defaultIfEmpty(Optional.empty());
+        return Mono.zip(located, speculative).flatMap(tuple -> {
+            final GeographicCoordinates geographicCoordinates = tuple.getT1();
+            if (tuple.getT2().isPresent() && isNear(geographicCoordinates, hint)) {
+                return Mono.just(new LocationResponse(geographicCoordinates, tuple.getT2().get()));
+            }
+            return sunriseSunset(geographicCoordinates)
+                    .map(sunriseSunset -> new LocationResponse(geographicCoordinates, sunriseSunset));
+        });
+    }
+
+    private Mono<LocationResponse> coordinatesResponse(final Mono<GeographicCoordinates> geographicCoordinates) {
+        return geographicCoordinates.and(this::sunriseSunset, LocationResponse::new);
+    }
+
+    private Mono<LocationResponse> coordinatesResponse(final Mono<GeographicCoordinates> geographicCoordinates,
+                                                       final String date) {
+        return geographicCoordinates.and(coordinates -> date(date)
+                .flatMap(localDate -> sunriseSunset(coordinates, localDate)), LocationResponse::new);
+    }
+
+    private Mono<LocationResponse> locationResponse(final Mono<String> address) {
+        return pipelineMetrics.timed(PipelineMetrics.GEO_LOCATION_STAGE, address.transform(geoLocationService::fromAddress))
+                .and(this::sunriseSunset, LocationResponse::new);
+    }
+
     private Mono<SunriseSunset> sunriseSunset(GeographicCoordinates geographicCoordinates) {
-        return Mono.just(geographicCoordinates).transform(sunriseSunsetService::fromGeographicCoordinates);
+        return pipelineMetrics.timed(PipelineMetrics.SUNRISE_SUNSET_STAGE,
+                Mono.just(geographicCoordinates).transform(sunriseSunsetService::fromGeographicCoordinates));
+    }
+
+    private Mono<SunriseSunset> sunriseSunset(final GeographicCoordinates geographicCoordinates, final LocalDate date) {
+        return pipelineMetrics.timed(PipelineMetrics.SUNRISE_SUNSET_STAGE,
+                sunriseSunsetService.fromGeographicCoordinates(Mono.just(geographicCoordinates), date));
+    }
+
+    Flux<DailySunriseSunset> days(final GeographicCoordinates geographicCoordinates, final Flux<LocalDate> dates) {
+        return dates.flatMapSequential(date -> sunriseSunset(geographicCoordinates, date)
+                .map(sunriseSunset -> new DailySunriseSunset(date.toString(), sunriseSunset)), bulkConcurrency);
+    }
+
+    static Mono<GeographicCoordinates> coordinates(final String latitude, final String longitude) {
+        if (latitude == null || longitude == null) {
+            return Mono.error(InvalidParametersException.INVALID_COORDINATES);
+        }
+        try {
+            return coordinates(Double.valueOf(latitude), Double.valueOf(longitude));
+        } catch (NumberFormatException e) {
+            return Mono.error(InvalidParametersException.INVALID_COORDINATES);
+        }
+    }
+
+    private static Mono<GeographicCoordinates> coordinates(final Double latitude, final Double longitude) {
+        if (latitude == null || longitude == null ||
+                !(Math.abs(latitude) <= MAX_LATITUDE) || !(Math.abs(longitude) <= MAX_LONGITUDE)) {
+            return Mono.error(InvalidParametersException.INVALID_COORDINATES);
+        }
+        return Mono.just(new GeographicCoordinates(latitude, longitude));
+    }
+
+    private static Mono<LocalDate> date(final String date) {
+        try {
+            return Mono.just(LocalDate.parse(date));
+        } catch (DateTimeParseException e) {
+            return Mono.error(InvalidParametersException.INVALID_DATES);
+        }
+    }
+
+    private static Mono<Flux<LocalDate>> dates(final String from, final String to) {
+        if (from == null || to == null) {
+            return Mono.error(InvalidParametersException.INVALID_DATES);
+        }
+        return date(from).flatMap(fromDate -> date(to).flatMap(toDate -> {
+            final long days = ChronoUnit.DAYS.between(fromDate, toDate) + 1;
+            if (days < 1 || days > MAX_DAYS) {
+                return Mono.error(InvalidParametersException.INVALID_DATES);
+            }
+            return Mono.just(Flux.range(0, (int) days).map(fromDate::plusDays));
+        }));
+    }
+
+    private static boolean isNear(final GeographicCoordinates located, final GeographicCoordinates hint) {
+        return Math.abs(located.getLatitude() - hint.getLatitude()) <= HINT_TOLERANCE &&
+                Math.abs(located.getLongitude() - hint.getLongitude()) <= HINT_TOLERANCE;
     }
 
     Mono<ServerResponse> serverResponse(Mono<LocationResponse> locationResponseMono) {
-        return locationResponseMono.flatMap(locationResponse ->
-                ServerResponse.ok().body(Mono.just(locationResponse), LocationResponse.class));
+        return locationResponseMono.flatMap(locationResponse -> pipelineMetrics.timed(PipelineMetrics.SERVER_RESPONSE_STAGE,
+                ServerResponse.ok().body(Mono.just(locationResponse), LocationResponse.class)));
     }
 }
\ No newline at end of file
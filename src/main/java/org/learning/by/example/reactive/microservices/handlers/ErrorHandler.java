@@ -1,32 +1,71 @@
 package org.learning.by.example.reactive.microservices.handlers;
 
-import org.learning.by.example.reactive.microservices.exceptions.PathNotFoundException;
+import org.learning.by.example.reactive.microservices.exceptions.*;
 import org.learning.by.example.reactive.microservices.model.ErrorResponse;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
+import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8;
+
 public class ErrorHandler {
 
-    private static final String NOT_FOUND = "not found";
-    private static final String ERROR_RAISED = "error raised";
-    private static Logger logger = LoggerFactory.getLogger(ErrorHandler.class);
+    private final PipelineMetrics pipelineMetrics;
+    private final ErrorLogPolicy errorLogPolicy;
+    private final ThrowableStatusRegistry throwableStatusRegistry;
+    private final DataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
+    private final PreEncodedErrorResponses preEncodedErrorResponses;
+
+    public ErrorHandler(final PipelineMetrics pipelineMetrics, final ErrorLogPolicy errorLogPolicy,
+                        final ThrowableStatusRegistry throwableStatusRegistry) {
+        this.pipelineMetrics = pipelineMetrics;
+        this.errorLogPolicy = errorLogPolicy;
+        this.throwableStatusRegistry = throwableStatusRegistry;
+        this.preEncodedErrorResponses = new PreEncodedErrorResponses(throwableStatusRegistry,
+                PathNotFoundException.NOT_FOUND,
+                GeoLocationNotFoundException.ADDRESS_NOT_FOUND,
+                InvalidParametersException.MISSING_ADDRESS,
+                InvalidParametersException.INVALID_COORDINATES,
+                InvalidParametersException.INVALID_DATES,
+                InvalidParametersException.MISSING_LOCATIONS,
+                InvalidParametersException.TOO_MANY_LOCATIONS,
+                InvalidParametersException.INVALID_REQUEST,
+                GetGeoLocationException.ERROR_GETTING_LOCATION,
+                GetGeoLocationException.LOCATION_WAS_NULL,
+                GetSunriseSunsetException.RESULT_NOT_OK,
+                UpstreamRateLimitedException.OVER_QUERY_LIMIT);
+    }
 
     public Mono<ServerResponse> notFound(final ServerRequest request) {
-        return Mono.just(new PathNotFoundException(NOT_FOUND)).transform(this::getResponse);
+        return Mono.just(PathNotFoundException.NOT_FOUND).transform(this::getResponse);
     }
 
     Mono<ServerResponse> throwableError(final Throwable error) {
-        logger.error(ERROR_RAISED, error);
-        return Mono.just(error).transform(this::getResponse);
+        errorLogPolicy.log(error, throwableStatusRegistry.status(error));
+        pipelineMetrics.error(error);
+        return pipelineMetrics.timed(PipelineMetrics.ERROR_HANDLER_STAGE, Mono.just(error).transform(this::getResponse));
+    }
+
+    ThrowableTranslator translate(final Throwable error) {
+        return throwableStatusRegistry.translate(error);
     }
 
     <T extends Throwable> Mono<ServerResponse> getResponse(final Mono<T> monoError) {
-        return monoError.transform(ThrowableTranslator::translate)
-                .flatMap(translation -> ServerResponse
+        return monoError.flatMap(error -> {
+            final ThrowableTranslator translation = translate(error);
+            final byte[] payload = preEncodedErrorResponses.get(translation);
+            if (payload != null) {
+                return ServerResponse
                         .status(translation.getHttpStatus())
-                        .body(Mono.just(new ErrorResponse(translation.getMessage())), ErrorResponse.class));
+                        .contentType(APPLICATION_JSON_UTF8)
+                        .body(Mono.fromSupplier(() -> dataBufferFactory.wrap(payload)), DataBuffer.class);
+            }
+            return ServerResponse
+                    .status(translation.getHttpStatus())
+                    .body(Mono.just(new ErrorResponse(translation.getMessage())), ErrorResponse.class);
+        });
     }
 }
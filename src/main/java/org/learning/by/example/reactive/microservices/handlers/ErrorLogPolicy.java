@@ -0,0 +1,107 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ErrorLogPolicy implements AutoCloseable {
+
+    enum Decision {DEBUG, STACK_TRACE, AGGREGATED}
+
+    private static final String ERROR_RAISED = "error raised";
+    private static final String ERROR_SUMMARY = "error raised {} times in the last {}s: {}: {}";
+    private static final String OTHER_MESSAGES = "(other messages)";
+    private static final int MAX_KEYS = 1024;
+    private static Logger logger = LoggerFactory.getLogger(ErrorHandler.class);
+
+    private final double stackTraceSampleRate;
+    private final long summaryInterval;
+    private final ConcurrentMap<ErrorKey, AtomicLong> errors = new ConcurrentHashMap<>();
+    private final Disposable summaries;
+
+    public ErrorLogPolicy(final double stackTraceSampleRate, final long summaryInterval) {
+        this.stackTraceSampleRate = stackTraceSampleRate;
+        this.summaryInterval = summaryInterval;
+        this.summaries = Schedulers.single()
+                .schedulePeriodically(this::summarize, summaryInterval, summaryInterval, TimeUnit.SECONDS);
+    }
+
+    Decision log(final Throwable error, final HttpStatus httpStatus) {
+        if (httpStatus.is4xxClientError()) {
+            logger.debug(ERROR_RAISED, error);
+            return Decision.DEBUG;
+        }
+        final AtomicLong count = errors.computeIfAbsent(key(error), errorKey -> new AtomicLong());
+        if (count.getAndIncrement() == 0 || ThreadLocalRandom.current().nextDouble() < stackTraceSampleRate) {
+            logger.error(ERROR_RAISED, error);
+            return Decision.STACK_TRACE;
+        }
+        return Decision.AGGREGATED;
+    }
+
+    int summarize() {
+        int summaryLines = 0;
+        for (final Map.Entry<ErrorKey, AtomicLong> entry : errors.entrySet()) {
+            final long count = entry.getValue().getAndSet(0);
+            if (count == 0) {
+                errors.remove(entry.getKey(), entry.getValue());
+            } else if (count > 1) {
+                logger.error(ERROR_SUMMARY, count, summaryInterval, entry.getKey().type, entry.getKey().message);
+                summaryLines++;
+            }
+        }
+        return summaryLines;
+    }
+
+    @Override
+    public void close() {
+        summaries.dispose();
+        summarize();
+    }
+
+    private ErrorKey key(final Throwable error) {
+        final ErrorKey key = new ErrorKey(error.getClass().getName(), error.getMessage());
+        if (errors.size() >= MAX_KEYS && !errors.containsKey(key)) {
+            return new ErrorKey(key.type, OTHER_MESSAGES);
+        }
+        return key;
+    }
+
+    private static final class ErrorKey {
+
+        private final String type;
+        private final String message;
+
+        private ErrorKey(final String type, final String message) {
+            this.type = type;
+            this.message = message;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ErrorKey)) {
+                return false;
+            }
+            final ErrorKey errorKey = (ErrorKey) other;
+            return type.equals(errorKey.type) && Objects.equals(message, errorKey.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + Objects.hashCode(message);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+final class FirstElement<T> extends BaseSubscriber<T> {
+
+    private final MonoSink<Flux<T>> sink;
+    private boolean first = true;
+    private FluxSink<T> rest;
+    private Throwable error;
+    private boolean completed;
+
+    private FirstElement(final MonoSink<Flux<T>> sink) {
+        this.sink = sink;
+    }
+
+    // waits for the first element, so a source failing before it fails the mono and one failing after it fails the
+    // flux; the flux keeps the single subscription to the source and forwards its demand
+    static <T> Mono<Flux<T>> split(final Flux<T> source) {
+        return Mono.create(sink -> {
+            final FirstElement<T> subscriber = new FirstElement<>(sink);
+            sink.onCancel(subscriber);
+            source.subscribe(subscriber);
+        });
+    }
+
+    @Override
+    protected void hookOnSubscribe(final Subscription subscription) {
+        request(1);
+    }
+
+    @Override
+    protected void hookOnNext(final T value) {
+        if (first) {
+            first = false;
+            sink.success(Flux.concat(Mono.just(value), Flux.create(this::attach)));
+        } else {
+            rest.next(value);
+        }
+    }
+
+    @Override
+    protected synchronized void hookOnError(final Throwable throwable) {
+        if (first) {
+            sink.error(throwable);
+        } else if (rest != null) {
+            rest.error(throwable);
+        } else {
+            error = throwable;
+        }
+    }
+
+    @Override
+    protected synchronized void hookOnComplete() {
+        if (first) {
+            sink.success();
+        } else if (rest != null) {
+            rest.complete();
+        } else {
+            completed = true;
+        }
+    }
+
+    private synchronized void attach(final FluxSink<T> fluxSink) {
+        rest = fluxSink;
+        if (error != null) {
+            fluxSink.error(error);
+        } else if (completed) {
+            fluxSink.complete();
+        } else {
+            fluxSink.onRequest(this::request);
+            fluxSink.onCancel(this);
+        }
+    }
+}
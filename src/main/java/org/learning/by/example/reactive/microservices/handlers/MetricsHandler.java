@@ -0,0 +1,24 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+public class MetricsHandler {
+
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType(TextFormat.CONTENT_TYPE_004);
+
+    private final PrometheusMeterRegistry registry;
+
+    public MetricsHandler(final PrometheusMeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Mono<ServerResponse> scrape(final ServerRequest request) {
+        return ServerResponse.ok().contentType(PROMETHEUS_TEXT)
+                .body(Mono.fromSupplier(registry::scrape), String.class);
+    }
+}
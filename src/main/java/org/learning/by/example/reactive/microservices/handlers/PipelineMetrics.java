@@ -0,0 +1,64 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+public class PipelineMetrics {
+
+    static final String STAGE_TIMER = "location.pipeline.stage";
+    static final String ERRORS_COUNTER = "location.pipeline.errors";
+    static final String GEO_LOCATION_STAGE = "geoLocation";
+    static final String SUNRISE_SUNSET_STAGE = "sunriseSunset";
+    static final String SERVER_RESPONSE_STAGE = "serverResponse";
+    static final String ERROR_HANDLER_STAGE = "errorHandler";
+    static final String STAGE_TAG = "stage";
+    static final String OUTCOME_TAG = "outcome";
+    static final String EXCEPTION_TAG = "exception";
+    static final String STATUS_TAG = "status";
+    static final String SUCCESS = "success";
+    static final String ERROR = "error";
+    static final String CANCELLED = "cancelled";
+    static final String NONE = "none";
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    private final MeterRegistry registry;
+    private final ThrowableStatusRegistry throwableStatusRegistry;
+
+    public PipelineMetrics(final MeterRegistry registry, final ThrowableStatusRegistry throwableStatusRegistry) {
+        this.registry = registry;
+        this.throwableStatusRegistry = throwableStatusRegistry;
+    }
+
+    <T> Mono<T> timed(final String stage, final Mono<T> mono) {
+        return Mono.defer(() -> {
+            final Timer.Sample sample = Timer.start(registry);
+            return mono
+                    .doOnSuccess(value -> sample.stop(timer(stage, SUCCESS, NONE, NONE)))
+                    .doOnError(throwable -> sample.stop(timer(stage, ERROR, exception(throwable), status(throwable))))
+                    .doOnCancel(() -> sample.stop(timer(stage, CANCELLED, NONE, NONE)));
+        });
+    }
+
+    void error(final Throwable throwable) {
+        registry.counter(ERRORS_COUNTER, EXCEPTION_TAG, exception(throwable), STATUS_TAG, status(throwable))
+                .increment();
+    }
+
+    private Timer timer(final String stage, final String outcome, final String exception, final String status) {
+        return Timer.builder(STAGE_TIMER)
+                .tags(STAGE_TAG, stage, OUTCOME_TAG, outcome, EXCEPTION_TAG, exception, STATUS_TAG, status)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static String exception(final Throwable throwable) {
+        return throwable.getClass().getSimpleName();
+    }
+
+    private String status(final Throwable throwable) {
+        return String.valueOf(throwableStatusRegistry.status(throwable).value());
+    }
+}
@@ -0,0 +1,42 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.learning.by.example.reactive.microservices.model.ErrorResponse;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.http.HttpStatus;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+class PreEncodedErrorResponses {
+
+    private static final String ERROR_ENCODING = "error encoding error response";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<HttpStatus, Map<String, byte[]>> payloads = new EnumMap<>(HttpStatus.class);
+
+    PreEncodedErrorResponses(final ThrowableStatusRegistry throwableStatusRegistry, final Throwable... constantErrors) {
+        for (final Throwable error : constantErrors) {
+            final ThrowableTranslator translation = throwableStatusRegistry.translate(error);
+            if (translation.getMessage() != null) {
+                payloads.computeIfAbsent(translation.getHttpStatus(), httpStatus -> new HashMap<>())
+                        .computeIfAbsent(translation.getMessage(), this::encode);
+            }
+        }
+    }
+
+    byte[] get(final ThrowableTranslator translation) {
+        final Map<String, byte[]> byMessage = payloads.get(translation.getHttpStatus());
+        return byMessage != null && translation.getMessage() != null ? byMessage.get(translation.getMessage()) : null;
+    }
+
+    private byte[] encode(final String message) {
+        try {
+            return objectMapper.writeValueAsBytes(new ErrorResponse(message));
+        } catch (JsonProcessingException cause) {
+            throw new EncodingException(ERROR_ENCODING, cause);
+        }
+    }
+}
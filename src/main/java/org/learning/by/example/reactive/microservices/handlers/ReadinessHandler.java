@@ -0,0 +1,23 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import org.learning.by.example.reactive.microservices.services.CacheWarmer;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+public class ReadinessHandler {
+
+    private final CacheWarmer cacheWarmer;
+
+    public ReadinessHandler(final CacheWarmer cacheWarmer) {
+        this.cacheWarmer = cacheWarmer;
+    }
+
+    public Mono<ServerResponse> ready(final ServerRequest request) {
+        if (cacheWarmer == null || cacheWarmer.isReady()) {
+            return ServerResponse.ok().build();
+        }
+        return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+}
@@ -0,0 +1,42 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+public class RequestMetricsFilter implements WebFilter {
+
+    static final String REQUESTS_TIMER = "http.server.requests";
+    static final String METHOD_TAG = "method";
+    static final String STATUS_TAG = "status";
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    private final MeterRegistry registry;
+
+    public RequestMetricsFilter(final MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+        return Mono.defer(() -> {
+            final Timer.Sample sample = Timer.start(registry);
+            return chain.filter(exchange).doFinally(signalType -> sample.stop(timer(exchange)));
+        });
+    }
+
+    private Timer timer(final ServerWebExchange exchange) {
+        final HttpStatus status = exchange.getResponse().getStatusCode();
+        return Timer.builder(REQUESTS_TIMER)
+                .tags(METHOD_TAG, String.valueOf(exchange.getRequest().getMethod()),
+                        STATUS_TAG, String.valueOf(status != null ? status.value() : HttpStatus.OK.value()))
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
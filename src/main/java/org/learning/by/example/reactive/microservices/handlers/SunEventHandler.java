@@ -0,0 +1,75 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import org.learning.by.example.reactive.microservices.exceptions.InvalidParametersException;
+import org.learning.by.example.reactive.microservices.model.SunEvent;
+import org.learning.by.example.reactive.microservices.services.GeoLocationService;
+import org.learning.by.example.reactive.microservices.services.SunEventScheduler;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM;
+
+public class SunEventHandler {
+
+    private static final String ADDRESS = "address";
+    private static final String COORDINATES = "coordinates";
+    private static final String COORDINATES_SEPARATOR = ",";
+
+    private final GeoLocationService geoLocationService;
+    private final SunEventScheduler sunEventScheduler;
+    private final ErrorHandler errorHandler;
+    private final int maxLocations;
+
+    public SunEventHandler(final GeoLocationService geoLocationService, final SunEventScheduler sunEventScheduler,
+                           final ErrorHandler errorHandler, final int maxLocations) {
+        this.geoLocationService = geoLocationService;
+        this.sunEventScheduler = sunEventScheduler;
+        this.errorHandler = errorHandler;
+        this.maxLocations = maxLocations;
+    }
+
+    public Mono<ServerResponse> getSunEvents(final ServerRequest request) {
+        final MultiValueMap<String, String> params = request.queryParams();
+        final List<String> addresses = params.getOrDefault(ADDRESS, Collections.emptyList());
+        final List<String> coordinates = params.getOrDefault(COORDINATES, Collections.emptyList());
+        return Mono.defer(() -> locations(addresses, coordinates))
+                .flatMap(events -> ServerResponse.ok().contentType(TEXT_EVENT_STREAM).body(events, SunEvent.class))
+                .onErrorResume(errorHandler::throwableError);
+    }
+
+    private Mono<Flux<SunEvent>> locations(final List<String> addresses, final List<String> coordinates) {
+        final int locations = addresses.size() + coordinates.size();
+        if (locations == 0) {
+            return Mono.error(InvalidParametersException.MISSING_LOCATIONS);
+        }
+        if (locations > maxLocations) {
+            return Mono.error(InvalidParametersException.TOO_MANY_LOCATIONS);
+        }
+        return Flux.concat(
+                Flux.fromIterable(coordinates).concatMap(this::coordinatesEvents),
+                Flux.fromIterable(addresses).flatMap(this::addressEvents))
+                .collectList()
+                .map(Flux::merge);
+    }
+
+    private Mono<Flux<SunEvent>> coordinatesEvents(final String coordinates) {
+        final String[] latLng = coordinates.split(COORDINATES_SEPARATOR, -1);
+        if (latLng.length != 2) {
+            return Mono.error(InvalidParametersException.INVALID_COORDINATES);
+        }
+        return ApiHandler.coordinates(latLng[0].trim(), latLng[1].trim())
+                .map(geographicCoordinates -> sunEventScheduler.events(coordinates, geographicCoordinates));
+    }
+
+    private Mono<Flux<SunEvent>> addressEvents(final String address) {
+        return Mono.just(address)
+                .transform(geoLocationService::fromAddress)
+                .map(geographicCoordinates -> sunEventScheduler.events(address, geographicCoordinates));
+    }
+}
@@ -0,0 +1,139 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import org.learning.by.example.reactive.microservices.exceptions.CircuitBreakerOpenException;
+import org.learning.by.example.reactive.microservices.exceptions.GeoLocationNotFoundException;
+import org.learning.by.example.reactive.microservices.exceptions.GetGeoLocationException;
+import org.learning.by.example.reactive.microservices.exceptions.GetSunriseSunsetException;
+import org.learning.by.example.reactive.microservices.exceptions.InvalidParametersException;
+import org.learning.by.example.reactive.microservices.exceptions.PathNotFoundException;
+import org.learning.by.example.reactive.microservices.exceptions.UpstreamRateLimitedException;
+import org.springframework.http.HttpStatus;
+
+import java.util.*;
+
+public class ThrowableStatusRegistry {
+
+    public static final ThrowableStatusRegistry DEFAULT = defaults().build();
+
+    private final Map<Class<?>, HttpStatus> statuses;
+    private final Map<Class<?>, List<CauseRule>> causeRules;
+    private final HttpStatus defaultStatus;
+    private final ClassValue<Resolution> resolutions = new ClassValue<Resolution>() {
+        @Override
+        protected Resolution computeValue(final Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private ThrowableStatusRegistry(final Builder builder) {
+        this.statuses = new HashMap<>(builder.statuses);
+        this.causeRules = new HashMap<>();
+        builder.causeRules.forEach((type, rules) -> causeRules.put(type, new ArrayList<>(rules)));
+        this.defaultStatus = builder.defaultStatus;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static Builder defaults() {
+        return builder()
+                .register(InvalidParametersException.class, HttpStatus.BAD_REQUEST)
+                .register(PathNotFoundException.class, HttpStatus.NOT_FOUND)
+                .register(GeoLocationNotFoundException.class, HttpStatus.NOT_FOUND)
+                .register(UpstreamRateLimitedException.class, HttpStatus.SERVICE_UNAVAILABLE)
+                .register(CircuitBreakerOpenException.class, HttpStatus.SERVICE_UNAVAILABLE)
+                .registerCause(GetGeoLocationException.class, InvalidParametersException.class, HttpStatus.BAD_REQUEST)
+                .registerCause(GetGeoLocationException.class, UpstreamRateLimitedException.class,
+                        HttpStatus.SERVICE_UNAVAILABLE)
+                .registerCause(GetSunriseSunsetException.class, UpstreamRateLimitedException.class,
+                        HttpStatus.SERVICE_UNAVAILABLE)
+                .registerCause(GetSunriseSunsetException.class, CircuitBreakerOpenException.class,
+                        HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    HttpStatus status(final Throwable throwable) {
+        final Resolution resolution = resolutions.get(throwable.getClass());
+        final Throwable cause = throwable.getCause();
+        if (cause != null) {
+            for (final CauseRule rule : resolution.causeRules) {
+                if (rule.causeType.isInstance(cause)) {
+                    return rule.status;
+                }
+            }
+        }
+        return resolution.status;
+    }
+
+    ThrowableTranslator translate(final Throwable throwable) {
+        return new ThrowableTranslator(status(throwable), throwable.getMessage());
+    }
+
+    private Resolution resolve(final Class<?> type) {
+        HttpStatus status = null;
+        List<CauseRule> rules = null;
+        for (Class<?> current = type; current != null && (status == null || rules == null);
+             current = current.getSuperclass()) {
+            if (status == null) {
+                status = statuses.get(current);
+            }
+            if (rules == null) {
+                rules = causeRules.get(current);
+            }
+        }
+        return new Resolution(status != null ? status : defaultStatus,
+                rules != null ? rules : Collections.emptyList());
+    }
+
+    public static class Builder {
+
+        private final Map<Class<?>, HttpStatus> statuses = new LinkedHashMap<>();
+        private final Map<Class<?>, List<CauseRule>> causeRules = new LinkedHashMap<>();
+        private HttpStatus defaultStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+
+        private Builder() {
+        }
+
+        public Builder register(final Class<? extends Throwable> type, final HttpStatus status) {
+            statuses.put(type, status);
+            return this;
+        }
+
+        public Builder registerCause(final Class<? extends Throwable> type,
+                                     final Class<? extends Throwable> causeType, final HttpStatus status) {
+            causeRules.computeIfAbsent(type, key -> new ArrayList<>()).add(new CauseRule(causeType, status));
+            return this;
+        }
+
+        public Builder defaultStatus(final HttpStatus status) {
+            this.defaultStatus = status;
+            return this;
+        }
+
+        public ThrowableStatusRegistry build() {
+            return new ThrowableStatusRegistry(this);
+        }
+    }
+
+    private static final class CauseRule {
+
+        private final Class<? extends Throwable> causeType;
+        private final HttpStatus status;
+
+        private CauseRule(final Class<? extends Throwable> causeType, final HttpStatus status) {
+            this.causeType = causeType;
+            this.status = status;
+        }
+    }
+
+    private static final class Resolution {
+
+        private final HttpStatus status;
+        private final List<CauseRule> causeRules;
+
+        private Resolution(final HttpStatus status, final List<CauseRule> causeRules) {
+            this.status = status;
+            this.causeRules = causeRules;
+        }
+    }
+}
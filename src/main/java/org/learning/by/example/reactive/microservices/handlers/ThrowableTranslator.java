@@ -1,9 +1,5 @@
 package org.learning.by.example.reactive.microservices.handlers;
 
-import org.learning.by.example.reactive.microservices.exceptions.GetGeoLocationException;
-import org.learning.by.example.reactive.microservices.exceptions.InvalidParametersException;
-import org.learning.by.example.reactive.microservices.exceptions.GeoLocationNotFoundException;
-import org.learning.by.example.reactive.microservices.exceptions.PathNotFoundException;
 import org.springframework.http.HttpStatus;
 import reactor.core.publisher.Mono;
 
@@ -12,26 +8,9 @@ class ThrowableTranslator {
     private final HttpStatus httpStatus;
     private final String message;
 
-    private ThrowableTranslator(final Throwable throwable) {
-        this.httpStatus = getStatus(throwable);
-        this.message = throwable.getMessage();
-    }
-
-    private HttpStatus getStatus(final Throwable error) {
-        if (error instanceof InvalidParametersException) {
-            return HttpStatus.BAD_REQUEST;
-        } else if (error instanceof PathNotFoundException) {
-            return HttpStatus.NOT_FOUND;
-        } else if (error instanceof GeoLocationNotFoundException) {
-            return HttpStatus.NOT_FOUND;
-        } else if (error instanceof GetGeoLocationException) {
-            if (error.getCause() instanceof InvalidParametersException)
-                return HttpStatus.BAD_REQUEST;
-            else
-                return HttpStatus.INTERNAL_SERVER_ERROR;
-        } else {
-            return HttpStatus.INTERNAL_SERVER_ERROR;
-        }
+    ThrowableTranslator(final HttpStatus httpStatus, final String message) {
+        this.httpStatus = httpStatus;
+        this.message = message;
     }
 
     HttpStatus getHttpStatus() {
@@ -42,7 +21,11 @@ class ThrowableTranslator {
         return message;
     }
 
+    static ThrowableTranslator from(final Throwable throwable) {
+        return ThrowableStatusRegistry.DEFAULT.translate(throwable);
+    }
+
     static <T extends Throwable> Mono<ThrowableTranslator> translate(final Mono<T> throwable) {
-        return throwable.flatMap(error -> Mono.just(new ThrowableTranslator(error)));
+        return throwable.map(ThrowableTranslator::from);
     }
 }
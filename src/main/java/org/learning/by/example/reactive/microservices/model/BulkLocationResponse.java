@@ -0,0 +1,41 @@
+package org.learning.by.example.reactive.microservices.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkLocationResponse {
+
+    private final String address;
+    private final int status;
+    private final LocationResponse location;
+    private final ErrorResponse error;
+
+    @JsonCreator
+    public BulkLocationResponse(@JsonProperty("address") final String address,
+                                @JsonProperty("status") final int status,
+                                @JsonProperty("location") final LocationResponse location,
+                                @JsonProperty("error") final ErrorResponse error) {
+        this.address = address;
+        this.status = status;
+        this.location = location;
+        this.error = error;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public LocationResponse getLocation() {
+        return location;
+    }
+
+    public ErrorResponse getError() {
+        return error;
+    }
+}
@@ -0,0 +1,25 @@
+package org.learning.by.example.reactive.microservices.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class DailySunriseSunset {
+
+    private final String date;
+    private final SunriseSunset sunriseSunset;
+
+    @JsonCreator
+    public DailySunriseSunset(@JsonProperty("date") final String date,
+                              @JsonProperty("sunriseSunset") final SunriseSunset sunriseSunset) {
+        this.date = date;
+        this.sunriseSunset = sunriseSunset;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public SunriseSunset getSunriseSunset() {
+        return sunriseSunset;
+    }
+}
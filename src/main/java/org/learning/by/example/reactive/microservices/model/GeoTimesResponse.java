@@ -31,6 +31,38 @@ public final class GeoTimesResponse {
             return sunset;
         }
 
+        public String getSolarNoon() {
+            return solar_noon;
+        }
+
+        public long getDayLength() {
+            return day_length;
+        }
+
+        public String getCivilTwilightBegin() {
+            return civil_twilight_begin;
+        }
+
+        public String getCivilTwilightEnd() {
+            return civil_twilight_end;
+        }
+
+        public String getNauticalTwilightBegin() {
+            return nautical_twilight_begin;
+        }
+
+        public String getNauticalTwilightEnd() {
+            return nautical_twilight_end;
+        }
+
+        public String getAstronomicalTwilightBegin() {
+            return astronomical_twilight_begin;
+        }
+
+        public String getAstronomicalTwilightEnd() {
+            return astronomical_twilight_end;
+        }
+
         final String sunrise;
         final String sunset;
         final String solar_noon;
@@ -7,13 +7,31 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 public class LocationRequest {
 
     private final String address;
+    private final Double latitude;
+    private final Double longitude;
+
+    public LocationRequest(final String address) {
+        this(address, null, null);
+    }
 
     @JsonCreator
-    public LocationRequest(@JsonProperty("address") final String address) {
+    public LocationRequest(@JsonProperty("address") final String address,
+                           @JsonProperty("latitude") final Double latitude,
+                           @JsonProperty("longitude") final Double longitude) {
         this.address = address;
+        this.latitude = latitude;
+        this.longitude = longitude;
     }
 
     public String getAddress() {
         return address;
     }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
 }
@@ -0,0 +1,37 @@
+package org.learning.by.example.reactive.microservices.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class SunEvent {
+
+    private final String location;
+    private final String type;
+    private final String time;
+    private final boolean upcoming;
+
+    @JsonCreator
+    public SunEvent(@JsonProperty("location") final String location, @JsonProperty("type") final String type,
+                    @JsonProperty("time") final String time, @JsonProperty("upcoming") final boolean upcoming) {
+        this.location = location;
+        this.type = type;
+        this.time = time;
+        this.upcoming = upcoming;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getTime() {
+        return time;
+    }
+
+    public boolean isUpcoming() {
+        return upcoming;
+    }
+}
@@ -2,6 +2,7 @@ package org.learning.by.example.reactive.microservices.routers;
 
 import org.learning.by.example.reactive.microservices.handlers.ErrorHandler;
 import org.learning.by.example.reactive.microservices.handlers.ApiHandler;
+import org.learning.by.example.reactive.microservices.handlers.SunEventHandler;
 import org.springframework.web.reactive.function.server.RequestPredicates;
 import org.springframework.web.reactive.function.server.RouterFunction;
 
@@ -16,14 +17,23 @@ class ApiRouter {
     private static final String LOCATION_PATH = "/location";
     private static final String ADDRESS_ARG = "/{address}";
     private static final String LOCATION_WITH_ADDRESS_PATH = LOCATION_PATH + ADDRESS_ARG;
+    private static final String LOCATIONS_PATH = "/locations";
+    private static final String SUN_PATH = "/sun";
+    private static final String SUN_DAYS_PATH = SUN_PATH + "/days";
+    private static final String SUN_EVENTS_PATH = SUN_PATH + "/events";
 
-    static RouterFunction<?> doRoute(final ApiHandler apiHandler, final ErrorHandler errorHandler) {
+    static RouterFunction<?> doRoute(final ApiHandler apiHandler, final SunEventHandler sunEventHandler,
+                                     final ErrorHandler errorHandler) {
         return
                 nest(path(API_PATH),
                     nest(accept(APPLICATION_JSON),
                         route(GET(LOCATION_WITH_ADDRESS_PATH), apiHandler::getLocation)
                         .andRoute(POST(LOCATION_PATH), apiHandler::postLocation)
-                    ).andOther(route(RequestPredicates.all(), errorHandler::notFound))
+                        .andRoute(GET(SUN_PATH), apiHandler::getSunriseSunset)
+                    ).andRoute(POST(LOCATIONS_PATH), apiHandler::postLocations)
+                    .andRoute(GET(SUN_DAYS_PATH), apiHandler::getSunriseSunsetDays)
+                    .andRoute(GET(SUN_EVENTS_PATH), sunEventHandler::getSunEvents)
+                    .andOther(route(RequestPredicates.all(), errorHandler::notFound))
                 );
     }
 }
@@ -2,13 +2,21 @@ package org.learning.by.example.reactive.microservices.routers;
 
 import org.learning.by.example.reactive.microservices.handlers.ErrorHandler;
 import org.learning.by.example.reactive.microservices.handlers.ApiHandler;
+import org.learning.by.example.reactive.microservices.handlers.MetricsHandler;
+import org.learning.by.example.reactive.microservices.handlers.ReadinessHandler;
+import org.learning.by.example.reactive.microservices.handlers.SunEventHandler;
 import org.springframework.web.reactive.function.server.RouterFunction;
 
 public class MainRouter {
 
-    public static RouterFunction<?> doRoute(final ApiHandler handler, final ErrorHandler errorHandler) {
+    public static RouterFunction<?> doRoute(final ApiHandler handler, final SunEventHandler sunEventHandler,
+                                            final ErrorHandler errorHandler,
+                                            final MetricsHandler metricsHandler,
+                                            final ReadinessHandler readinessHandler) {
         return ApiRouter
-                .doRoute(handler, errorHandler)
+                .doRoute(handler, sunEventHandler, errorHandler)
+                .andOther(MetricsRouter.doRoute(metricsHandler))
+                .andOther(ReadinessRouter.doRoute(readinessHandler))
                 .andOther(StaticRouter.doRoute());
     }
 }
@@ -0,0 +1,16 @@
+package org.learning.by.example.reactive.microservices.routers;
+
+import org.learning.by.example.reactive.microservices.handlers.MetricsHandler;
+import org.springframework.web.reactive.function.server.RouterFunction;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+class MetricsRouter {
+
+    private static final String METRICS_PATH = "/metrics";
+
+    static RouterFunction<?> doRoute(final MetricsHandler metricsHandler) {
+        return route(GET(METRICS_PATH), metricsHandler::scrape);
+    }
+}
@@ -0,0 +1,16 @@
+package org.learning.by.example.reactive.microservices.routers;
+
+import org.learning.by.example.reactive.microservices.handlers.ReadinessHandler;
+import org.springframework.web.reactive.function.server.RouterFunction;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+class ReadinessRouter {
+
+    private static final String READY_PATH = "/ready";
+
+    static RouterFunction<?> doRoute(final ReadinessHandler readinessHandler) {
+        return route(GET(READY_PATH), readinessHandler::ready);
+    }
+}
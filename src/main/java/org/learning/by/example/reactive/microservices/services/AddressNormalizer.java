@@ -0,0 +1,132 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import java.text.Normalizer;
+
+final class AddressNormalizer {
+
+    private static final char SPACE = ' ';
+    private static final char COMMA = ',';
+    private static final char PERIOD = '.';
+    private static final int MAX_ASCII = 0x7F;
+    private static final int INITIAL_CAPACITY = 128;
+    // street type suffixes, only expanded as the last word of a street line followed by a locality, so
+    // "St Louis", "Mount St Helens" and "Hartford, CT" keep their own keys
+    private static final String[][] ABBREVIATIONS = {
+            {"apt", "apartment"},
+            {"ave", "avenue"},
+            {"blvd", "boulevard"},
+            {"cir", "circle"},
+            {"ct", "court"},
+            {"dr", "drive"},
+            {"expy", "expressway"},
+            {"fwy", "freeway"},
+            {"hwy", "highway"},
+            {"ln", "lane"},
+            {"pkwy", "parkway"},
+            {"pl", "place"},
+            {"rd", "road"},
+            {"sq", "square"},
+            {"st", "street"},
+            {"ste", "suite"},
+            {"ter", "terrace"},
+    };
+    private static final ThreadLocal<StringBuilder> BUILDERS =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+    private AddressNormalizer() {
+    }
+
+    static String normalize(final String address) {
+        String value = address;
+        if (!isAscii(value) && !Normalizer.isNormalized(value, Normalizer.Form.NFKC)) {
+            value = Normalizer.normalize(value, Normalizer.Form.NFKC);
+        }
+        final StringBuilder key = BUILDERS.get();
+        key.setLength(0);
+        boolean pendingSpace = false;
+        boolean street = true;
+        int words = 0;
+        int lastWord = 0;
+        int lastWordEnd = 0;
+        int i = 0;
+        while (i < value.length()) {
+            final char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = key.length() > 0;
+                i++;
+            } else if (c == COMMA) {
+                if (street && words > 1) {
+                    expandSuffix(key, lastWord, lastWordEnd);
+                }
+                street = false;
+                key.append(COMMA);
+                pendingSpace = false;
+                i++;
+            } else {
+                if (pendingSpace || (key.length() > 0 && key.charAt(key.length() - 1) == COMMA)) {
+                    key.append(SPACE);
+                    pendingSpace = false;
+                }
+                if (Character.isLetterOrDigit(c)) {
+                    lastWord = key.length();
+                    i = appendWord(value, i, key);
+                    lastWordEnd = key.length();
+                    words++;
+                } else {
+                    key.append(c);
+                    i++;
+                }
+            }
+        }
+        return key.length() == address.length() && address.contentEquals(key) ? address : key.toString();
+    }
+
+    private static int appendWord(final String value, final int from, final StringBuilder key) {
+        int i = from;
+        while (i < value.length() && Character.isLetterOrDigit(value.charAt(i))) {
+            key.append(Character.toLowerCase(value.charAt(i)));
+            i++;
+        }
+        return i;
+    }
+
+    private static void expandSuffix(final StringBuilder key, final int start, final int end) {
+        final int trailing = key.length() - end;
+        if (trailing > 1 || (trailing == 1 && key.charAt(end) != PERIOD)) {
+            return;
+        }
+        final String expansion = expansion(key, start, end);
+        if (expansion != null) {
+            key.setLength(start);
+            key.append(expansion);
+        }
+    }
+
+    private static String expansion(final StringBuilder key, final int start, final int end) {
+        final int length = end - start;
+        for (final String[] abbreviation : ABBREVIATIONS) {
+            if (abbreviation[0].length() == length && regionEquals(key, start, abbreviation[0])) {
+                return abbreviation[1];
+            }
+        }
+        return null;
+    }
+
+    private static boolean regionEquals(final StringBuilder key, final int start, final String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (key.charAt(start + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAscii(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > MAX_ASCII) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,112 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class CacheWarmer implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final String WARMING = "warming caches with {} addresses from {}";
+    private static final String WARMED = "cache warm up finished, {} warmed, {} failed";
+    private static final String SEED_FAILED = "error reading cache warm up seed file {}";
+    private static final String ADDRESS_FAILED = "error warming address {}";
+    private static final String COMMENT = "#";
+    private static final long NANOS_PER_SECOND = Duration.ofSeconds(1).toNanos();
+    private static Logger logger = LoggerFactory.getLogger(CacheWarmer.class);
+
+    private final GeoLocationService geoLocationService;
+    private final SunriseSunsetService sunriseSunsetService;
+    private final Path seedFile;
+    private final int concurrency;
+    private final Duration interval;
+    private final double readyFraction;
+    private final AtomicInteger warmed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile int total = -1;
+
+    public CacheWarmer(final GeoLocationService geoLocationService, final SunriseSunsetService sunriseSunsetService,
+                       final Path seedFile, final int concurrency, final int ratePerSecond,
+                       final double readyFraction) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("invalid cache warm up rate of " + ratePerSecond + " per second");
+        }
+        this.geoLocationService = geoLocationService;
+        this.sunriseSunsetService = sunriseSunsetService;
+        this.seedFile = seedFile;
+        this.concurrency = concurrency;
+        this.interval = Duration.ofNanos(NANOS_PER_SECOND / ratePerSecond);
+        this.readyFraction = readyFraction;
+    }
+
+    @Override
+    public void onApplicationEvent(final ApplicationReadyEvent event) {
+        warm().subscribe();
+    }
+
+    public boolean isReady() {
+        final int addresses = total;
+        return addresses >= 0 && warmed.get() >= Math.ceil(addresses * readyFraction);
+    }
+
+    int getWarmed() {
+        return warmed.get();
+    }
+
+    int getFailed() {
+        return failed.get();
+    }
+
+    Mono<Void> warm() {
+        return Mono.fromCallable(this::readSeedFile)
+                .subscribeOn(Schedulers.elastic())
+                .doOnNext(addresses -> {
+                    logger.info(WARMING, addresses.size(), seedFile);
+                    total = addresses.size();
+                })
+                .flatMapMany(addresses -> Flux.fromIterable(addresses).delayElements(interval))
+                .flatMap(this::warm, concurrency)
+                .doOnError(throwable -> logger.warn(SEED_FAILED, seedFile, throwable))
+                .onErrorResume(throwable -> {
+                    if (total < 0) {
+                        total = 0;
+                    }
+                    return Mono.empty();
+                })
+                .doFinally(signal -> logger.info(WARMED, warmed.get(), failed.get()))
+                .then();
+    }
+
+    private Mono<Void> warm(final String address) {
+        return Mono.just(address)
+                .transform(geoLocationService::fromAddress)
+                .transform(sunriseSunsetService::fromGeographicCoordinates)
+                .doOnSuccess(sunriseSunset -> warmed.incrementAndGet())
+                .doOnError(throwable -> {
+                    failed.incrementAndGet();
+                    logger.debug(ADDRESS_FAILED, address, throwable);
+                })
+                .onErrorResume(throwable -> Mono.empty())
+                .then();
+    }
+
+    private List<String> readSeedFile() throws Exception {
+        try (Stream<String> lines = Files.lines(seedFile)) {
+            return lines.map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith(COMMENT))
+                    .distinct()
+                    .collect(Collectors.toList());
+        }
+    }
+}
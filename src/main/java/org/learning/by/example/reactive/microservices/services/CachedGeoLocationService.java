@@ -0,0 +1,34 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+
+public class CachedGeoLocationService implements GeoLocationService {
+
+    private final GeoLocationService geoLocationService;
+    private final RefreshingCache<String, GeographicCoordinates> cache;
+
+    public CachedGeoLocationService(final GeoLocationService geoLocationService, final long maximumSize,
+                                    final long timeToLive, final long hardTimeToLive) {
+        this(geoLocationService, maximumSize, timeToLive, hardTimeToLive, Clock.systemUTC());
+    }
+
+    CachedGeoLocationService(final GeoLocationService geoLocationService, final long maximumSize,
+                             final long timeToLive, final long hardTimeToLive, final Clock clock) {
+        this.geoLocationService = geoLocationService;
+        this.cache = new RefreshingCache<>(maximumSize, timeToLive, hardTimeToLive, clock);
+    }
+
+    @Override
+    public Mono<GeographicCoordinates> fromAddress(final Mono<String> addressMono) {
+        return addressMono.flatMap(address -> cache.get(AddressNormalizer.normalize(address),
+                () -> Mono.just(address).transform(geoLocationService::fromAddress)));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,67 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.learning.by.example.reactive.microservices.model.SunriseSunset;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+public class CachedSunriseSunsetService implements SunriseSunsetService {
+
+    private static final char DATE_SEPARATOR = '@';
+
+    private final SunriseSunsetService sunriseSunsetService;
+    private final RefreshingCache<String, SunriseSunset> cache;
+    private final int precision;
+    private final Clock clock;
+
+    public CachedSunriseSunsetService(final SunriseSunsetService sunriseSunsetService, final long maximumSize,
+                                      final int precision, final long timeToLive, final long hardTimeToLive) {
+        this(sunriseSunsetService, maximumSize, precision, timeToLive, hardTimeToLive, Clock.systemUTC());
+    }
+
+    CachedSunriseSunsetService(final SunriseSunsetService sunriseSunsetService, final long maximumSize,
+                               final int precision, final long timeToLive, final long hardTimeToLive,
+                               final Clock clock) {
+        if (precision < 1 || precision > GeoHash.MAX_PRECISION) {
+            throw new IllegalArgumentException("invalid geohash precision " + precision);
+        }
+        this.sunriseSunsetService = sunriseSunsetService;
+        this.precision = precision;
+        this.clock = clock;
+        this.cache = new RefreshingCache<>(maximumSize, timeToLive, hardTimeToLive, clock);
+    }
+
+    @Override
+    public Mono<SunriseSunset> fromGeographicCoordinates(final Mono<GeographicCoordinates> geographicCoordinatesMono) {
+        return geographicCoordinatesMono.flatMap(geographicCoordinates -> {
+            final String cell = cell(geographicCoordinates);
+            return cache.get(cacheKey(cell, LocalDate.now(clock)), () -> Mono.just(GeoHash.center(cell))
+                    .transform(sunriseSunsetService::fromGeographicCoordinates));
+        });
+    }
+
+    @Override
+    public Mono<SunriseSunset> fromGeographicCoordinates(final Mono<GeographicCoordinates> geographicCoordinatesMono,
+                                                         final LocalDate date) {
+        return geographicCoordinatesMono.flatMap(geographicCoordinates -> {
+            final String cell = cell(geographicCoordinates);
+            return cache.get(cacheKey(cell, date), () -> sunriseSunsetService
+                    .fromGeographicCoordinates(Mono.just(GeoHash.center(cell)), date));
+        });
+    }
+
+    private String cell(final GeographicCoordinates geographicCoordinates) {
+        return GeoHash.encode(geographicCoordinates.getLatitude(), geographicCoordinates.getLongitude(), precision);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    static String cacheKey(final String cell, final LocalDate date) {
+        return cell + DATE_SEPARATOR + date;
+    }
+}
@@ -0,0 +1,262 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.learning.by.example.reactive.microservices.exceptions.CircuitBreakerOpenException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class CircuitBreaker {
+
+    public static final CircuitBreaker DISABLED = new CircuitBreaker();
+
+    public enum State {CLOSED, OPEN, HALF_OPEN}
+
+    static final long REJECTED = -1L;
+
+    private static final String DISABLED_NAME = "disabled";
+    private static final String STATE_CHANGED = "circuit breaker {} changed from {} to {}";
+    private static Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private final String name;
+    private final boolean enabled;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallDuration;
+    private final Duration callTimeout;
+    private final double slowCallRateThreshold;
+    private final long openDuration;
+    private final int halfOpenCalls;
+    private final Clock clock;
+
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+    private int next;
+    private int calls;
+    private int failureCount;
+    private int slowCallCount;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int probes;
+    private int probeFailures;
+    private int probeSlowCalls;
+
+    private CircuitBreaker() {
+        this.name = DISABLED_NAME;
+        this.enabled = false;
+        this.minimumCalls = 0;
+        this.failureRateThreshold = 0;
+        this.slowCallDuration = 0;
+        this.callTimeout = Duration.ZERO;
+        this.slowCallRateThreshold = 0;
+        this.openDuration = 0;
+        this.halfOpenCalls = 0;
+        this.clock = Clock.systemUTC();
+        this.failures = new boolean[0];
+        this.slowCalls = new boolean[0];
+    }
+
+    private CircuitBreaker(final Builder builder) {
+        if (builder.windowSize < 1 || builder.minimumCalls < 1 || builder.minimumCalls > builder.windowSize ||
+                builder.halfOpenCalls < 1 || builder.callTimeout < 1 || !(builder.failureRateThreshold > 0) ||
+                !(builder.slowCallRateThreshold > 0)) {
+            throw new IllegalArgumentException("invalid circuit breaker " + builder.name + " configuration");
+        }
+        this.name = builder.name;
+        this.enabled = true;
+        this.minimumCalls = builder.minimumCalls;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallDuration = builder.slowCallDuration;
+        this.callTimeout = Duration.ofMillis(builder.callTimeout);
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.openDuration = TimeUnit.SECONDS.toMillis(builder.openDuration);
+        this.halfOpenCalls = builder.halfOpenCalls;
+        this.clock = builder.clock;
+        this.failures = new boolean[builder.windowSize];
+        this.slowCalls = new boolean[builder.windowSize];
+    }
+
+    public static Builder builder(final String name) {
+        return new Builder(name);
+    }
+
+    <T> Mono<T> protect(final Mono<T> call) {
+        if (!enabled) {
+            return call;
+        }
+        return Mono.defer(() -> {
+            final long permit = acquire();
+            if (permit == REJECTED) {
+                return Mono.error(CircuitBreakerOpenException.CIRCUIT_OPEN);
+            }
+            final long start = clock.millis();
+            return call
+                    .timeout(callTimeout)
+                    .doOnSuccess(value -> record(permit, clock.millis() - start, false))
+                    .doOnError(throwable -> record(permit, throwable instanceof TimeoutException ?
+                            Math.max(clock.millis() - start, slowCallDuration) : clock.millis() - start, true))
+                    .doOnCancel(() -> release(permit));
+        });
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return calls == 0 ? 0 : (double) failureCount / calls;
+    }
+
+    synchronized long acquire() {
+        if (state == State.OPEN) {
+            if (clock.millis() - openedAt < openDuration) {
+                return REJECTED;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return REJECTED;
+            }
+            halfOpenPermits--;
+        }
+        return generation;
+    }
+
+    synchronized void record(final long permit, final long duration, final boolean failed) {
+        if (permit != generation) {
+            return;
+        }
+        final boolean slow = duration >= slowCallDuration;
+        if (state == State.HALF_OPEN) {
+            probes++;
+            probeFailures += failed ? 1 : 0;
+            probeSlowCalls += slow ? 1 : 0;
+            if (probes == halfOpenCalls) {
+                transition(exceeded(probeFailures, probeSlowCalls, probes) ? State.OPEN : State.CLOSED);
+            }
+            return;
+        }
+        if (calls == failures.length) {
+            failureCount -= failures[next] ? 1 : 0;
+            slowCallCount -= slowCalls[next] ? 1 : 0;
+        } else {
+            calls++;
+        }
+        failures[next] = failed;
+        slowCalls[next] = slow;
+        failureCount += failed ? 1 : 0;
+        slowCallCount += slow ? 1 : 0;
+        next = (next + 1) % failures.length;
+        if (calls >= minimumCalls && exceeded(failureCount, slowCallCount, calls)) {
+            transition(State.OPEN);
+        }
+    }
+
+    synchronized void release(final long permit) {
+        if (permit == generation && state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    private boolean exceeded(final int failed, final int slow, final int total) {
+        return failed >= failureRateThreshold * total || slow >= slowCallRateThreshold * total;
+    }
+
+    private void transition(final State to) {
+        logger.info(STATE_CHANGED, name, state, to);
+        state = to;
+        generation++;
+        switch (to) {
+            case OPEN:
+                openedAt = clock.millis();
+                break;
+            case HALF_OPEN:
+                halfOpenPermits = halfOpenCalls;
+                probes = 0;
+                probeFailures = 0;
+                probeSlowCalls = 0;
+                break;
+            case CLOSED:
+                next = 0;
+                calls = 0;
+                failureCount = 0;
+                slowCallCount = 0;
+                break;
+        }
+    }
+
+    public static class Builder {
+
+        private final String name;
+        private int windowSize = 100;
+        private int minimumCalls = 20;
+        private double failureRateThreshold = 0.5;
+        private long slowCallDuration = 5000;
+        private long callTimeout = 10000;
+        private double slowCallRateThreshold = 0.8;
+        private long openDuration = 30;
+        private int halfOpenCalls = 5;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder(final String name) {
+            this.name = name;
+        }
+
+        public Builder windowSize(final int windowSize) {
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        public Builder minimumCalls(final int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        public Builder failureRateThreshold(final double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        public Builder slowCallDuration(final long slowCallDuration) {
+            this.slowCallDuration = slowCallDuration;
+            return this;
+        }
+
+        public Builder callTimeout(final long callTimeout) {
+            this.callTimeout = callTimeout;
+            return this;
+        }
+
+        public Builder slowCallRateThreshold(final double slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            return this;
+        }
+
+        public Builder openDuration(final long openDuration) {
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        public Builder halfOpenCalls(final int halfOpenCalls) {
+            this.halfOpenCalls = halfOpenCalls;
+            return this;
+        }
+
+        Builder clock(final Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.learning.by.example.reactive.microservices.exceptions.GeoLocationNotFoundException;
+import org.learning.by.example.reactive.microservices.exceptions.InvalidParametersException;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class GazetteerGeoLocationService implements GeoLocationService {
+
+    private static final String TAB = "\t";
+    private static final String COMPONENT_SEPARATOR = ", ";
+    private static final char COMMA = ',';
+    private static final String ERROR_LOADING = "error loading gazetteer ";
+    private static final String LOADED = "loaded {} gazetteer keys from {}";
+    private static final int GEONAMES_COLUMNS = 19;
+    private static final int POSTAL_CODES_COLUMNS = 12;
+    private static Logger logger = LoggerFactory.getLogger(GazetteerGeoLocationService.class);
+
+    private final GeoLocationService fallback;
+    private final String[] keys;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    public GazetteerGeoLocationService(final Path gazetteer, final GeoLocationService fallback) {
+        this.fallback = fallback;
+        final Map<String, Entry> entries = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(gazetteer, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                parse(line.split(TAB, -1), entries);
+            }
+        } catch (IOException cause) {
+            throw new UncheckedIOException(ERROR_LOADING + gazetteer, cause);
+        }
+        keys = entries.keySet().toArray(new String[entries.size()]);
+        Arrays.sort(keys);
+        latitudes = new double[keys.length];
+        longitudes = new double[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            final Entry entry = entries.get(keys[i]);
+            latitudes[i] = entry.latitude;
+            longitudes[i] = entry.longitude;
+        }
+        logger.info(LOADED, keys.length, gazetteer);
+    }
+
+    @Override
+    public Mono<GeographicCoordinates> fromAddress(final Mono<String> addressMono) {
+        return addressMono.flatMap(address -> {
+            final String key = AddressNormalizer.normalize(address);
+            if (key.isEmpty()) {
+                return Mono.error(InvalidParametersException.MISSING_ADDRESS);
+            }
+            final int found = lookup(key);
+            if (found >= 0) {
+                return Mono.just(new GeographicCoordinates(latitudes[found], longitudes[found]));
+            }
+            if (fallback != null) {
+                return Mono.just(address).transform(fallback::fromAddress);
+            }
+            return Mono.error(GeoLocationNotFoundException.ADDRESS_NOT_FOUND);
+        });
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    int lookup(final String key) {
+        final int exact = Arrays.binarySearch(keys, key);
+        if (exact >= 0) {
+            return exact;
+        }
+        final int comma = key.indexOf(COMMA);
+        return comma < 0 ? -1 : qualified(key, comma);
+    }
+
+    // the first component only counts when a later one names its admin code or country, so "paris, texas" misses
+    private int qualified(final String key, final int comma) {
+        final String name = key.substring(0, comma + 1);
+        int from = comma + 1;
+        while (from < key.length()) {
+            final int next = key.indexOf(COMMA, from);
+            final String component = key.substring(from, next < 0 ? key.length() : next).trim();
+            if (!component.isEmpty()) {
+                final int found = Arrays.binarySearch(keys, name + ' ' + component);
+                if (found >= 0) {
+                    return found;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            from = next + 1;
+        }
+        return -1;
+    }
+
+    private static void parse(final String[] columns, final Map<String, Entry> entries) {
+        if (columns.length == GEONAMES_COLUMNS) {
+            final Entry entry = new Entry(Double.parseDouble(columns[4]), Double.parseDouble(columns[5]),
+                    columns[14].isEmpty() ? 0 : Long.parseLong(columns[14]));
+            for (final String name : new String[]{columns[1], columns[2]}) {
+                put(entries, name, entry);
+                put(entries, name + COMPONENT_SEPARATOR + columns[10], entry);
+                put(entries, name + COMPONENT_SEPARATOR + columns[8], entry);
+            }
+        } else if (columns.length == POSTAL_CODES_COLUMNS) {
+            final Entry entry = new Entry(Double.parseDouble(columns[9]), Double.parseDouble(columns[10]), 0);
+            put(entries, columns[1], entry);
+            put(entries, columns[1] + COMPONENT_SEPARATOR + columns[0], entry);
+        }
+    }
+
+    private static void put(final Map<String, Entry> entries, final String name, final Entry entry) {
+        final String key = AddressNormalizer.normalize(name);
+        if (key.isEmpty() || key.charAt(key.length() - 1) == COMMA) {
+            return;
+        }
+        entries.merge(key, entry, (existing, candidate) ->
+                candidate.population > existing.population ? candidate : existing);
+    }
+
+    private static final class Entry {
+        private final double latitude;
+        private final double longitude;
+        private final long population;
+
+        private Entry(final double latitude, final double longitude, final long population) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.population = population;
+        }
+    }
+}
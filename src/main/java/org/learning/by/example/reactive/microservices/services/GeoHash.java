@@ -0,0 +1,95 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+
+import java.util.Arrays;
+
+final class GeoHash {
+
+    static final int MAX_PRECISION = 12;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final int[] DECODE = new int[128];
+    private static final int BITS_PER_CHAR = 5;
+    private static final double MAX_LATITUDE = 90.0;
+    private static final double MAX_LONGITUDE = 180.0;
+
+    static {
+        Arrays.fill(DECODE, -1);
+        for (int i = 0; i < BASE32.length; i++) {
+            DECODE[BASE32[i]] = i;
+        }
+    }
+
+    private GeoHash() {
+    }
+
+    static String encode(final double latitude, final double longitude, final int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("invalid geohash precision " + precision);
+        }
+        double minLatitude = -MAX_LATITUDE, maxLatitude = MAX_LATITUDE;
+        double minLongitude = -MAX_LONGITUDE, maxLongitude = MAX_LONGITUDE;
+        final char[] hash = new char[precision];
+        boolean even = true;
+        for (int i = 0; i < precision; i++) {
+            int index = 0;
+            for (int bit = 0; bit < BITS_PER_CHAR; bit++) {
+                index <<= 1;
+                if (even) {
+                    final double middle = (minLongitude + maxLongitude) / 2;
+                    if (longitude >= middle) {
+                        index |= 1;
+                        minLongitude = middle;
+                    } else {
+                        maxLongitude = middle;
+                    }
+                } else {
+                    final double middle = (minLatitude + maxLatitude) / 2;
+                    if (latitude >= middle) {
+                        index |= 1;
+                        minLatitude = middle;
+                    } else {
+                        maxLatitude = middle;
+                    }
+                }
+                even = !even;
+            }
+            hash[i] = BASE32[index];
+        }
+        return new String(hash);
+    }
+
+    static GeographicCoordinates center(final String hash) {
+        double minLatitude = -MAX_LATITUDE, maxLatitude = MAX_LATITUDE;
+        double minLongitude = -MAX_LONGITUDE, maxLongitude = MAX_LONGITUDE;
+        boolean even = true;
+        for (int i = 0; i < hash.length(); i++) {
+            final char c = hash.charAt(i);
+            final int index = c < DECODE.length ? DECODE[c] : -1;
+            if (index < 0) {
+                throw new IllegalArgumentException("invalid geohash " + hash);
+            }
+            for (int bit = BITS_PER_CHAR - 1; bit >= 0; bit--) {
+                final boolean set = ((index >> bit) & 1) == 1;
+                if (even) {
+                    final double middle = (minLongitude + maxLongitude) / 2;
+                    if (set) {
+                        minLongitude = middle;
+                    } else {
+                        maxLongitude = middle;
+                    }
+                } else {
+                    final double middle = (minLatitude + maxLatitude) / 2;
+                    if (set) {
+                        minLatitude = middle;
+                    } else {
+                        maxLatitude = middle;
+                    }
+                }
+                even = !even;
+            }
+        }
+        return new GeographicCoordinates((minLatitude + maxLatitude) / 2, (minLongitude + maxLongitude) / 2);
+    }
+}
@@ -0,0 +1,59 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.learning.by.example.reactive.microservices.model.GeoLocationResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class GeoLocationResponseDecoder implements Decoder<GeoLocationResponse> {
+
+    private static final List<MimeType> MIME_TYPES = Collections.unmodifiableList(Arrays.asList(
+            new MimeType("application", "json"),
+            new MimeType("application", "*+json")));
+
+    @Override
+    public boolean canDecode(final ResolvableType elementType, final MimeType mimeType) {
+        return GeoLocationResponse.class.equals(elementType.getRawClass()) &&
+                (mimeType == null || MIME_TYPES.stream().anyMatch(supported -> supported.isCompatibleWith(mimeType)));
+    }
+
+    @Override
+    public Flux<GeoLocationResponse> decode(final Publisher<DataBuffer> inputStream, final ResolvableType elementType,
+                                            final MimeType mimeType, final Map<String, Object> hints) {
+        return decodeToMono(inputStream, elementType, mimeType, hints).flux();
+    }
+
+    @Override
+    public Mono<GeoLocationResponse> decodeToMono(final Publisher<DataBuffer> inputStream,
+                                                  final ResolvableType elementType, final MimeType mimeType,
+                                                  final Map<String, Object> hints) {
+        return Flux.from(inputStream)
+                .reduceWith(GeoLocationResponseParser::new, GeoLocationResponseDecoder::feed)
+                .map(GeoLocationResponseParser::finish);
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return MIME_TYPES;
+    }
+
+    private static GeoLocationResponseParser feed(final GeoLocationResponseParser parser, final DataBuffer dataBuffer) {
+        try {
+            final byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            return parser.feed(bytes, 0, bytes.length);
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+}
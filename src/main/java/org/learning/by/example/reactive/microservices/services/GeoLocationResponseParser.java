@@ -0,0 +1,139 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import org.learning.by.example.reactive.microservices.model.GeoLocationResponse;
+import org.learning.by.example.reactive.microservices.model.GeoLocationResponse.Result;
+import org.learning.by.example.reactive.microservices.model.GeoLocationResponse.Result.Geometry;
+import org.springframework.core.codec.CodecException;
+
+import java.io.IOException;
+
+final class GeoLocationResponseParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String RESULTS = "results";
+    private static final String STATUS = "status";
+    private static final String GEOMETRY = "geometry";
+    private static final String LOCATION = "location";
+    private static final String LAT = "lat";
+    private static final String LNG = "lng";
+    private static final String ERROR_PARSING = "error parsing geo location response";
+    private static final int MAX_DEPTH = 6;
+    private static final int STATUS_DEPTH = 1;
+    private static final int RESULT_DEPTH = 3;
+    private static final int GEOMETRY_DEPTH = 4;
+    private static final int LOCATION_DEPTH = 5;
+    private static final Result[] NO_RESULTS = new Result[0];
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final String[] fieldNames = new String[MAX_DEPTH + 1];
+    private int depth = 0;
+    private int resultIndex = -1;
+    private String status;
+    private double lat;
+    private double lng;
+    private boolean latFound;
+    private boolean lngFound;
+
+    GeoLocationResponseParser() {
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException cause) {
+            throw new CodecException(ERROR_PARSING, cause);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    GeoLocationResponseParser feed(final byte[] bytes, final int offset, final int length) {
+        try {
+            feeder.feedInput(bytes, offset, offset + length);
+            drain();
+        } catch (IOException cause) {
+            throw new CodecException(ERROR_PARSING, cause);
+        }
+        return this;
+    }
+
+    GeoLocationResponse finish() {
+        try {
+            feeder.endOfInput();
+            drain();
+            parser.close();
+        } catch (IOException cause) {
+            throw new CodecException(ERROR_PARSING, cause);
+        }
+        if (latFound && lngFound) {
+            final Geometry geometry = new Geometry(null, new Geometry.Location(lat, lng), null, null);
+            return new GeoLocationResponse(new Result[]{new Result(null, null, geometry, null, null)}, status);
+        }
+        return new GeoLocationResponse(status != null ? NO_RESULTS : null, status);
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            handle(token);
+        }
+    }
+
+    private void handle(final JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+            case START_ARRAY:
+                depth++;
+                if (token == JsonToken.START_OBJECT && depth == RESULT_DEPTH && inResults()) {
+                    resultIndex++;
+                }
+                clearFieldName();
+                break;
+            case END_OBJECT:
+            case END_ARRAY:
+                depth--;
+                break;
+            case FIELD_NAME:
+                if (depth <= MAX_DEPTH) {
+                    fieldNames[depth] = parser.getCurrentName();
+                }
+                break;
+            case VALUE_STRING:
+                if (depth == STATUS_DEPTH && STATUS.equals(fieldNames[STATUS_DEPTH])) {
+                    status = parser.getText();
+                }
+                break;
+            case VALUE_NUMBER_FLOAT:
+            case VALUE_NUMBER_INT:
+                if (depth == LOCATION_DEPTH && inFirstLocation()) {
+                    if (LAT.equals(fieldNames[LOCATION_DEPTH])) {
+                        lat = parser.getDoubleValue();
+                        latFound = true;
+                    } else if (LNG.equals(fieldNames[LOCATION_DEPTH])) {
+                        lng = parser.getDoubleValue();
+                        lngFound = true;
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void clearFieldName() {
+        if (depth <= MAX_DEPTH) {
+            fieldNames[depth] = null;
+        }
+    }
+
+    private boolean inResults() {
+        return RESULTS.equals(fieldNames[STATUS_DEPTH]);
+    }
+
+    private boolean inFirstLocation() {
+        return resultIndex == 0 && inResults()
+                && GEOMETRY.equals(fieldNames[RESULT_DEPTH])
+                && LOCATION.equals(fieldNames[GEOMETRY_DEPTH]);
+    }
+}
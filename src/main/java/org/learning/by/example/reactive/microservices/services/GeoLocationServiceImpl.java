@@ -1,58 +1,121 @@
 package org.learning.by.example.reactive.microservices.services;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.learning.by.example.reactive.microservices.exceptions.GetGeoLocationException;
 import org.learning.by.example.reactive.microservices.exceptions.GeoLocationNotFoundException;
 import org.learning.by.example.reactive.microservices.exceptions.InvalidParametersException;
+import org.learning.by.example.reactive.microservices.exceptions.UpstreamRateLimitedException;
 import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
 import org.learning.by.example.reactive.microservices.model.GeoLocationResponse;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
 public class GeoLocationServiceImpl implements GeoLocationService {
 
     private static final String OK_STATUS = "OK";
     private static final String ZERO_RESULTS = "ZERO_RESULTS";
+    private static final String OVER_QUERY_LIMIT = "OVER_QUERY_LIMIT";
     private static final String ERROR_GETTING_LOCATION = "error getting location";
-    private static final String ERROR_LOCATION_WAS_NULL = "error location was null";
-    private static final String ADDRESS_NOT_FOUND = "address not found";
     private static final String ADDRESS_PARAMETER = "?address=";
-    private static final String MISSING_ADDRESS = "missing address";
+    private static final GeoLocationResponse NOT_FOUND_RESPONSE =
+            new GeoLocationResponse(new GeoLocationResponse.Result[0], ZERO_RESULTS);
     WebClient webClient;
+    private final InFlightRequests<String, GeoLocationResponse> inFlightRequests = new InFlightRequests<>();
+    private final Cache<String, Boolean> notFoundCache;
     private final String endPoint;
+    private final TokenBucketRateLimiter rateLimiter;
 
     public GeoLocationServiceImpl(final String endPoint) {
+        this(endPoint, WebClient.create());
+    }
+
+    public GeoLocationServiceImpl(final String endPoint, final WebClient webClient) {
+        this(endPoint, webClient, TokenBucketRateLimiter.UNLIMITED);
+    }
+
+    public GeoLocationServiceImpl(final String endPoint, final WebClient webClient,
+                                  final TokenBucketRateLimiter rateLimiter) {
+        this(endPoint, webClient, null, rateLimiter);
+    }
+
+    public GeoLocationServiceImpl(final String endPoint, final WebClient webClient,
+                                  final long notFoundMaximumSize, final long notFoundTimeToLive) {
+        this(endPoint, webClient, notFoundMaximumSize, notFoundTimeToLive, TokenBucketRateLimiter.UNLIMITED);
+    }
+
+    public GeoLocationServiceImpl(final String endPoint, final WebClient webClient,
+                                  final long notFoundMaximumSize, final long notFoundTimeToLive,
+                                  final TokenBucketRateLimiter rateLimiter) {
+        this(endPoint, webClient, Caffeine.newBuilder()
+                .maximumSize(notFoundMaximumSize)
+                .expireAfterWrite(notFoundTimeToLive, TimeUnit.SECONDS)
+                .build(), rateLimiter);
+    }
+
+    private GeoLocationServiceImpl(final String endPoint, final WebClient webClient,
+                                   final Cache<String, Boolean> notFoundCache,
+                                   final TokenBucketRateLimiter rateLimiter) {
         this.endPoint = endPoint;
-        this.webClient = WebClient.create();
+        this.webClient = webClient;
+        this.notFoundCache = notFoundCache;
+        this.rateLimiter = rateLimiter;
     }
 
     @Override
     public Mono<GeographicCoordinates> fromAddress(final Mono<String> addressMono) {
-        return addressMono
+        return addressMono.flatMap(address -> Mono.just(address)
                 .transform(this::buildUrl)
-                .transform(this::get)
-                .onErrorResume(throwable -> Mono.error(new GetGeoLocationException(ERROR_GETTING_LOCATION, throwable)))
-                .transform(this::geometryLocation);
+                .transform(urlMono -> lookup(AddressNormalizer.normalize(address), urlMono))
+                .onErrorResume(throwable -> Mono.error(new GetGeoLocationException(ERROR_GETTING_LOCATION, throwable, false)))
+                .transform(this::geometryLocation));
     }
 
     Mono<String> buildUrl(final Mono<String> addressMono) {
         return addressMono.flatMap(address -> {
-            if (address.equals("")) {
-                return Mono.error(new InvalidParametersException(MISSING_ADDRESS));
+            if (AddressNormalizer.normalize(address).equals("")) {
+                return Mono.error(InvalidParametersException.MISSING_ADDRESS);
+            }
+            try {
+                return Mono.just(endPoint.concat(ADDRESS_PARAMETER)
+                        .concat(URLEncoder.encode(address.trim(), StandardCharsets.UTF_8.name())));
+            } catch (UnsupportedEncodingException cause) {
+                return Mono.error(cause);
             }
-            return Mono.just(endPoint.concat(ADDRESS_PARAMETER).concat(address));
         });
     }
 
+    private Mono<GeoLocationResponse> lookup(final String key, final Mono<String> urlMono) {
+        if (notFoundCache != null && notFoundCache.getIfPresent(key) != null) {
+            return Mono.just(NOT_FOUND_RESPONSE);
+        }
+        return inFlightRequests.get(key, () -> urlMono
+                .transform(this::get)
+                .doOnNext(geoLocationResponse -> rememberNotFound(key, geoLocationResponse)));
+    }
+
     Mono<GeoLocationResponse> get(final Mono<String> urlMono) {
-        return urlMono.flatMap(url -> webClient
+        return urlMono.flatMap(url -> rateLimiter.limit(webClient
                 .get()
-                .uri(url)
+                .uri(URI.create(url))
                 .accept(MediaType.APPLICATION_JSON)
-                .exchange()
+                .exchange())
                 .flatMap(clientResponse -> clientResponse.bodyToMono(GeoLocationResponse.class)));
     }
 
+    private void rememberNotFound(final String key, final GeoLocationResponse geoLocationResponse) {
+        if (notFoundCache != null && ZERO_RESULTS.equals(geoLocationResponse.getStatus())) {
+            notFoundCache.put(key, Boolean.TRUE);
+        }
+    }
+
     Mono<GeographicCoordinates> geometryLocation(final Mono<GeoLocationResponse> geoLocationResponseMono) {
         return geoLocationResponseMono.flatMap(geoLocationResponse -> {
                     if (geoLocationResponse.getStatus() != null) {
@@ -62,12 +125,14 @@ public class GeoLocationServiceImpl implements GeoLocationService {
                                         new GeographicCoordinates(geoLocationResponse.getResults()[0].getGeometry().getLocation().getLat(),
                                                 geoLocationResponse.getResults()[0].getGeometry().getLocation().getLng()));
                             case ZERO_RESULTS:
-                                return Mono.error(new GeoLocationNotFoundException(ADDRESS_NOT_FOUND));
+                                return Mono.error(GeoLocationNotFoundException.ADDRESS_NOT_FOUND);
+                            case OVER_QUERY_LIMIT:
+                                return Mono.error(UpstreamRateLimitedException.OVER_QUERY_LIMIT);
                             default:
-                                return Mono.error(new GetGeoLocationException(ERROR_GETTING_LOCATION));
+                                return Mono.error(GetGeoLocationException.ERROR_GETTING_LOCATION);
                         }
                     } else {
-                        return Mono.error(new GetGeoLocationException(ERROR_LOCATION_WAS_NULL));
+                        return Mono.error(GetGeoLocationException.LOCATION_WAS_NULL);
                     }
                 }
         );
@@ -0,0 +1,29 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+class InFlightRequests<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    Mono<V> get(final K key, final Supplier<Mono<V>> request) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> share(k, request)));
+    }
+
+    int size() {
+        return inFlight.size();
+    }
+
+    private Mono<V> share(final K key, final Supplier<Mono<V>> request) {
+        final AtomicReference<Mono<V>> shared = new AtomicReference<>();
+        shared.set(Mono.defer(request)
+                .doFinally(signalType -> inFlight.remove(key, shared.get()))
+                .cache());
+        return shared.get();
+    }
+}
@@ -0,0 +1,40 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.learning.by.example.reactive.microservices.model.GeoTimesResponse;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.learning.by.example.reactive.microservices.model.SunriseSunset;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+public class LocalSunriseSunsetService implements SunriseSunsetService {
+
+    private final Clock clock;
+
+    public LocalSunriseSunsetService() {
+        this(Clock.systemUTC());
+    }
+
+    LocalSunriseSunsetService(final Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<SunriseSunset> fromGeographicCoordinates(final Mono<GeographicCoordinates> geographicCoordinatesMono) {
+        return fromGeographicCoordinates(geographicCoordinatesMono, LocalDate.now(clock));
+    }
+
+    @Override
+    public Mono<SunriseSunset> fromGeographicCoordinates(final Mono<GeographicCoordinates> geographicCoordinatesMono,
+                                                         final LocalDate date) {
+        return geographicCoordinatesMono
+                .map(geographicCoordinates -> calculate(geographicCoordinates, date))
+                .map(results -> new SunriseSunset(results.getSunrise(), results.getSunset()));
+    }
+
+    GeoTimesResponse.Results calculate(final GeographicCoordinates geographicCoordinates, final LocalDate date) {
+        return SunriseSunsetCalculator.calculate(geographicCoordinates.getLatitude(),
+                geographicCoordinates.getLongitude(), date);
+    }
+}
@@ -0,0 +1,31 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+public class PersistentGeoLocationService implements GeoLocationService {
+
+    private final GeoLocationService geoLocationService;
+    private final PersistentGeoLocationStore store;
+    private final Scheduler scheduler;
+
+    public PersistentGeoLocationService(final GeoLocationService geoLocationService,
+                                        final PersistentGeoLocationStore store, final Scheduler scheduler) {
+        this.geoLocationService = geoLocationService;
+        this.store = store;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<GeographicCoordinates> fromAddress(final Mono<String> addressMono) {
+        return addressMono.flatMap(address -> {
+            final String key = AddressNormalizer.normalize(address);
+            return Mono.fromCallable(() -> store.get(key))
+                    .subscribeOn(scheduler)
+                    .switchIfEmpty(Mono.defer(() -> Mono.just(address).transform(geoLocationService::fromAddress)
+                            .doOnNext(geographicCoordinates ->
+                                    scheduler.schedule(() -> store.put(key, geographicCoordinates)))));
+        });
+    }
+}
@@ -0,0 +1,422 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+
+public class PersistentGeoLocationStore implements AutoCloseable {
+
+    private static final String LOG_FILE = "geocode.log";
+    private static final String COMPACTING_FILE = "geocode.log.compacting";
+    private static final String SCHEDULER_NAME = "geocode-store";
+    private static final String IO_SCHEDULER_NAME = "geocode-store-io";
+    private static final String ERROR_OPENING = "error opening geocode store ";
+    private static final String LOADED = "loaded {} geocode store entries from {}";
+    private static final String LOAD_FAILED = "geocode store load failed";
+    private static final String COMPACTED = "compacted geocode store from {} to {} bytes";
+    private static final String COMPACTION_FAILED = "geocode store compaction failed";
+    private static final int RECORD_OVERHEAD = Integer.BYTES + 2 * Double.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int SLOT_SIZE = 2 * Integer.BYTES;
+    private static final int MIN_SLOTS = 1024;
+    private static final int EMPTY = 0;
+    private static Logger logger = LoggerFactory.getLogger(PersistentGeoLocationStore.class);
+
+    private final Path directory;
+    private final int logSize;
+    private final long timeToLive;
+    private final Clock clock;
+    private final StampedLock lock = new StampedLock();
+    private volatile boolean loaded;
+    private volatile boolean compacting;
+    private Scheduler scheduler;
+    private Scheduler ioScheduler = Schedulers.immediate();
+    private MappedByteBuffer log;
+    private ByteBuffer index;
+    private int slots;
+    private int size;
+    private int position;
+    private long garbage;
+    private boolean full;
+
+    PersistentGeoLocationStore(final Path directory, final int logSize, final long timeToLive, final Clock clock) {
+        this.directory = directory;
+        this.logSize = logSize;
+        this.timeToLive = TimeUnit.SECONDS.toMillis(timeToLive);
+        this.clock = clock;
+        try {
+            Files.createDirectories(directory);
+            this.log = map(directory.resolve(LOG_FILE), logSize);
+        } catch (IOException cause) {
+            throw new UncheckedIOException(ERROR_OPENING + directory, cause);
+        }
+        this.slots = MIN_SLOTS;
+        this.index = ByteBuffer.allocateDirect(slots * SLOT_SIZE);
+    }
+
+    public static PersistentGeoLocationStore open(final Path directory, final int logSize, final long timeToLive,
+                                                  final long compactionInterval, final int ioThreads) {
+        final PersistentGeoLocationStore store = new PersistentGeoLocationStore(directory, logSize, timeToLive,
+                Clock.systemUTC());
+        store.scheduler = Schedulers.newSingle(SCHEDULER_NAME);
+        store.ioScheduler = Schedulers.newParallel(IO_SCHEDULER_NAME, ioThreads, true);
+        store.scheduler.schedule(store::loadQuietly);
+        store.scheduler.schedulePeriodically(store::compactQuietly, compactionInterval, compactionInterval,
+                TimeUnit.SECONDS);
+        return store;
+    }
+
+    public GeographicCoordinates get(final String key) {
+        if (!loaded) {
+            return null;
+        }
+        final ByteBuffer keyBuffer = ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8));
+        final int hash = hash(keyBuffer, 0, keyBuffer.capacity());
+        final long expired = clock.millis() - timeToLive;
+        long stamp = lock.tryOptimisticRead();
+        GeographicCoordinates geographicCoordinates;
+        try {
+            geographicCoordinates = read(log, index, slots, keyBuffer, hash, expired);
+        } catch (RuntimeException inconsistentRead) {
+            geographicCoordinates = null;
+        }
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                geographicCoordinates = read(log, index, slots, keyBuffer, hash, expired);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return geographicCoordinates;
+    }
+
+    public boolean put(final String key, final GeographicCoordinates geographicCoordinates) {
+        if (!loaded) {
+            return false;
+        }
+        // readers only hold the lock briefly, so wait them out, but never wait behind a compaction copy
+        long stamp = lock.tryWriteLock();
+        while (stamp == 0L) {
+            if (compacting) {
+                return false;
+            }
+            Thread.yield();
+            stamp = lock.tryWriteLock();
+        }
+        try {
+            return append(key.getBytes(StandardCharsets.UTF_8), geographicCoordinates.getLatitude(),
+                    geographicCoordinates.getLongitude(), clock.millis());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public Scheduler getScheduler() {
+        return ioScheduler;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void load() {
+        final long stamp = lock.writeLock();
+        try {
+            int offset = 0;
+            while (offset + RECORD_OVERHEAD <= logSize) {
+                final int length = log.getInt(offset);
+                if (length <= 0 || offset + RECORD_OVERHEAD + length > logSize || !isValid(log, offset, length)) {
+                    break;
+                }
+                index(offset, length);
+                offset += RECORD_OVERHEAD + length;
+            }
+            position = offset;
+            loaded = true;
+            logger.info(LOADED, size, directory);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    boolean compact() {
+        long stamp = lock.readLock();
+        try {
+            if (!loaded) {
+                return false;
+            }
+            final long expired = clock.millis() - timeToLive;
+            final long reclaimable = garbage + expiredBytes(expired);
+            if (reclaimable == 0 || !(reclaimable * 2 >= position || full)) {
+                return false;
+            }
+            compacting = true;
+            final int copiedPosition = position;
+            final Path compacting = directory.resolve(COMPACTING_FILE);
+            Files.deleteIfExists(compacting);
+            final MappedByteBuffer compactedLog = map(compacting, logSize);
+            final ByteBuffer compactedIndex = ByteBuffer.allocateDirect(slots * SLOT_SIZE);
+            int compactedPosition = 0;
+            int compactedSize = 0;
+            for (int slot = 0; slot < slots; slot++) {
+                final int hash = index.getInt(slot * SLOT_SIZE);
+                if (hash != EMPTY && written(log, index.getInt(slot * SLOT_SIZE + Integer.BYTES)) > expired) {
+                    final int offset = index.getInt(slot * SLOT_SIZE + Integer.BYTES);
+                    final int recordSize = RECORD_OVERHEAD + log.getInt(offset);
+                    final ByteBuffer record = log.duplicate();
+                    record.position(offset).limit(offset + recordSize);
+                    final ByteBuffer target = compactedLog.duplicate();
+                    target.position(compactedPosition);
+                    target.put(record);
+                    insertSlot(compactedIndex, slots, hash, compactedPosition);
+                    compactedPosition += recordSize;
+                    compactedSize++;
+                }
+            }
+            compactedLog.force();
+
+            final long writeStamp = lock.tryConvertToWriteLock(stamp);
+            if (writeStamp == 0L) {
+                lock.unlockRead(stamp);
+                stamp = lock.writeLock();
+                if (position != copiedPosition) {
+                    Files.deleteIfExists(compacting);
+                    return false;
+                }
+            } else {
+                stamp = writeStamp;
+            }
+            Files.move(compacting, directory.resolve(LOG_FILE), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            logger.info(COMPACTED, position, compactedPosition);
+            log = compactedLog;
+            index = compactedIndex;
+            position = compactedPosition;
+            size = compactedSize;
+            garbage = 0;
+            full = false;
+            return true;
+        } catch (IOException cause) {
+            throw new UncheckedIOException(cause);
+        } finally {
+            compacting = false;
+            lock.unlock(stamp);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.dispose();
+            ioScheduler.dispose();
+        }
+        final long stamp = lock.writeLock();
+        try {
+            if (loaded) {
+                log.force();
+                loaded = false;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private long expiredBytes(final long expired) {
+        long bytes = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            if (index.getInt(slot * SLOT_SIZE) != EMPTY) {
+                final int offset = index.getInt(slot * SLOT_SIZE + Integer.BYTES);
+                if (written(log, offset) <= expired) {
+                    bytes += RECORD_OVERHEAD + log.getInt(offset);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private void loadQuietly() {
+        try {
+            load();
+        } catch (RuntimeException cause) {
+            logger.error(LOAD_FAILED, cause);
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (RuntimeException cause) {
+            logger.error(COMPACTION_FAILED, cause);
+        }
+    }
+
+    private boolean append(final byte[] key, final double latitude, final double longitude, final long written) {
+        final ByteBuffer keyBuffer = ByteBuffer.wrap(key);
+        final int hash = hash(keyBuffer, 0, key.length);
+        final int existing = find(log, index, slots, keyBuffer, hash);
+        if (existing >= 0) {
+            final int offset = index.getInt(existing * SLOT_SIZE + Integer.BYTES);
+            if (latitude(log, offset) == latitude && longitude(log, offset) == longitude &&
+                    written(log, offset) > written - timeToLive) {
+                return true;
+            }
+        }
+        final int recordSize = RECORD_OVERHEAD + key.length;
+        if (position + recordSize > logSize) {
+            full = true;
+            return false;
+        }
+        final ByteBuffer record = log.duplicate();
+        record.position(position + Integer.BYTES);
+        record.put(key).putDouble(latitude).putDouble(longitude).putLong(written)
+                .putInt(checksum(hash, latitude, longitude, written));
+        log.putInt(position, key.length);
+        index(position, key.length);
+        position += recordSize;
+        return true;
+    }
+
+    private void index(final int offset, final int length) {
+        final int hash = hash(log, offset + Integer.BYTES, length);
+        final int existing = find(log, index, slots, keyAt(log, offset, length), hash);
+        if (existing >= 0) {
+            final int previous = index.getInt(existing * SLOT_SIZE + Integer.BYTES);
+            garbage += RECORD_OVERHEAD + log.getInt(previous);
+            index.putInt(existing * SLOT_SIZE + Integer.BYTES, offset);
+            return;
+        }
+        if ((size + 1) * 2 > slots) {
+            resize();
+        }
+        insertSlot(index, slots, hash, offset);
+        size++;
+    }
+
+    private void resize() {
+        final int resizedSlots = slots * 2;
+        final ByteBuffer resized = ByteBuffer.allocateDirect(resizedSlots * SLOT_SIZE);
+        for (int slot = 0; slot < slots; slot++) {
+            final int hash = index.getInt(slot * SLOT_SIZE);
+            if (hash != EMPTY) {
+                insertSlot(resized, resizedSlots, hash, index.getInt(slot * SLOT_SIZE + Integer.BYTES));
+            }
+        }
+        index = resized;
+        slots = resizedSlots;
+    }
+
+    private static GeographicCoordinates read(final ByteBuffer log, final ByteBuffer index, final int slots,
+                                              final ByteBuffer key, final int hash, final long expired) {
+        final int slot = find(log, index, slots, key, hash);
+        if (slot < 0) {
+            return null;
+        }
+        final int offset = index.getInt(slot * SLOT_SIZE + Integer.BYTES);
+        if (written(log, offset) <= expired) {
+            return null;
+        }
+        return new GeographicCoordinates(latitude(log, offset), longitude(log, offset));
+    }
+
+    private static int find(final ByteBuffer log, final ByteBuffer index, final int slots,
+                            final ByteBuffer key, final int hash) {
+        final int mask = slots - 1;
+        for (int probe = 0, slot = hash & mask; probe < slots; probe++, slot = (slot + 1) & mask) {
+            final int slotHash = index.getInt(slot * SLOT_SIZE);
+            if (slotHash == EMPTY) {
+                return -1;
+            }
+            if (slotHash == hash && keyEquals(log, index.getInt(slot * SLOT_SIZE + Integer.BYTES), key)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private static void insertSlot(final ByteBuffer index, final int slots, final int hash, final int offset) {
+        final int mask = slots - 1;
+        int slot = hash & mask;
+        while (index.getInt(slot * SLOT_SIZE) != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        index.putInt(slot * SLOT_SIZE + Integer.BYTES, offset);
+        index.putInt(slot * SLOT_SIZE, hash);
+    }
+
+    private static boolean keyEquals(final ByteBuffer log, final int offset, final ByteBuffer key) {
+        final int length = log.getInt(offset);
+        if (length != key.limit() - key.position()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (log.get(offset + Integer.BYTES + i) != key.get(key.position() + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ByteBuffer keyAt(final ByteBuffer log, final int offset, final int length) {
+        final ByteBuffer key = log.duplicate();
+        key.position(offset + Integer.BYTES).limit(offset + Integer.BYTES + length);
+        return key;
+    }
+
+    private static boolean isValid(final ByteBuffer log, final int offset, final int length) {
+        final int hash = hash(log, offset + Integer.BYTES, length);
+        final int coordinates = offset + Integer.BYTES + length;
+        return log.getInt(coordinates + 2 * Double.BYTES + Long.BYTES) == checksum(hash, log.getDouble(coordinates),
+                log.getDouble(coordinates + Double.BYTES), log.getLong(coordinates + 2 * Double.BYTES));
+    }
+
+    private static double latitude(final ByteBuffer log, final int offset) {
+        return log.getDouble(offset + Integer.BYTES + log.getInt(offset));
+    }
+
+    private static double longitude(final ByteBuffer log, final int offset) {
+        return log.getDouble(offset + Integer.BYTES + log.getInt(offset) + Double.BYTES);
+    }
+
+    private static long written(final ByteBuffer log, final int offset) {
+        return log.getLong(offset + Integer.BYTES + log.getInt(offset) + 2 * Double.BYTES);
+    }
+
+    private static int hash(final ByteBuffer buffer, final int from, final int length) {
+        int hash = 0x811C9DC5;
+        for (int i = from; i < from + length; i++) {
+            hash = (hash ^ (buffer.get(i) & 0xFF)) * 0x01000193;
+        }
+        return hash == EMPTY ? 1 : hash;
+    }
+
+    private static int checksum(final int hash, final double latitude, final double longitude, final long written) {
+        return 31 * (31 * (31 * hash + Double.hashCode(latitude)) + Double.hashCode(longitude)) + Long.hashCode(written);
+    }
+
+    private static MappedByteBuffer map(final Path file, final int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+}
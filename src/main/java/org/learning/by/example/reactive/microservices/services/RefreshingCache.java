@@ -0,0 +1,72 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+class RefreshingCache<K, V> {
+
+    private static final String REFRESH_FAILED = "refresh failed for {}, serving stale value";
+    private static Logger logger = LoggerFactory.getLogger(RefreshingCache.class);
+
+    private final Cache<K, Entry<V>> cache;
+    private final InFlightRequests<K, V> inFlightRequests = new InFlightRequests<>();
+    private final long softTimeToLive;
+    private final Clock clock;
+
+    RefreshingCache(final long maximumSize, final long softTimeToLive, final long hardTimeToLive, final Clock clock) {
+        if (softTimeToLive > hardTimeToLive) {
+            throw new IllegalArgumentException("soft time to live " + softTimeToLive +
+                    " is greater than hard time to live " + hardTimeToLive);
+        }
+        this.softTimeToLive = TimeUnit.SECONDS.toMillis(softTimeToLive);
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(hardTimeToLive, TimeUnit.SECONDS)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .recordStats()
+                .build();
+    }
+
+    Mono<V> get(final K key, final Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            final Entry<V> entry = cache.getIfPresent(key);
+            if (entry == null) {
+                return load(key, loader);
+            }
+            if (clock.millis() - entry.written >= softTimeToLive) {
+                load(key, loader).subscribe(value -> {
+                }, throwable -> logger.debug(REFRESH_FAILED, key, throwable));
+            }
+            return Mono.just(entry.value);
+        });
+    }
+
+    CacheStats stats() {
+        return cache.stats();
+    }
+
+    private Mono<V> load(final K key, final Supplier<Mono<V>> loader) {
+        return inFlightRequests.get(key, () -> loader.get()
+                .doOnNext(value -> cache.put(key, new Entry<>(value, clock.millis()))));
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long written;
+
+        private Entry(final V value, final long written) {
+            this.value = value;
+            this.written = written;
+        }
+    }
+}
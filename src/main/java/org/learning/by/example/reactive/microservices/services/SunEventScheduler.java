@@ -0,0 +1,173 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.learning.by.example.reactive.microservices.model.SunEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SunEventScheduler implements AutoCloseable {
+
+    private static final String[] TYPES = {"astronomical_twilight_begin", "nautical_twilight_begin",
+            "civil_twilight_begin", "sunrise", "sunset", "civil_twilight_end", "nautical_twilight_end",
+            "astronomical_twilight_end"};
+    private static final String THREAD_NAME = "sun-events";
+    private static final long TICK_MILLIS = 100;
+    private static final double KEY_SCALE = 1e4;
+    private static final String KEY_SEPARATOR = ":";
+    private static final int DAYS_BEHIND = 1;
+    private static final int DAYS_AHEAD = 2;
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1);
+
+    private final Timer timer;
+    private final Clock clock;
+    private final Map<String, Flux<Transition>> transitions = new ConcurrentHashMap<>();
+
+    public SunEventScheduler() {
+        this(new HashedWheelTimer(runnable -> {
+            final Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        }, TICK_MILLIS, TimeUnit.MILLISECONDS), Clock.systemUTC());
+    }
+
+    SunEventScheduler(final Timer timer, final Clock clock) {
+        this.timer = timer;
+        this.clock = clock;
+    }
+
+    public Flux<SunEvent> events(final String location, final GeographicCoordinates geographicCoordinates) {
+        final Mono<SunEvent> upcoming = Mono.defer(() -> Mono.justOrEmpty(next(geographicCoordinates,
+                clock.millis() / MILLIS_PER_SECOND))).map(transition -> transition.toEvent(location, true));
+        return Flux.concat(upcoming, Flux.defer(() -> transitions(geographicCoordinates))
+                .map(transition -> transition.toEvent(location, false)));
+    }
+
+    int size() {
+        return transitions.size();
+    }
+
+    @Override
+    public void close() {
+        timer.stop();
+    }
+
+    private Flux<Transition> transitions(final GeographicCoordinates geographicCoordinates) {
+        return transitions.computeIfAbsent(key(geographicCoordinates), key -> share(key, geographicCoordinates));
+    }
+
+    private Flux<Transition> share(final String key, final GeographicCoordinates geographicCoordinates) {
+        final AtomicReference<Flux<Transition>> shared = new AtomicReference<>();
+        shared.set(Flux.<Transition>create(sink -> {
+            final LocationTimer locationTimer = new LocationTimer(geographicCoordinates, sink);
+            // a late subscriber reconnecting after the last one left registers this flux again
+            transitions.putIfAbsent(key, shared.get());
+            sink.onDispose(() -> {
+                locationTimer.cancel();
+                transitions.remove(key, shared.get());
+            });
+            locationTimer.schedule();
+        }).publish().refCount());
+        return shared.get();
+    }
+
+    private static String key(final GeographicCoordinates geographicCoordinates) {
+        return Math.round(geographicCoordinates.getLatitude() * KEY_SCALE) + KEY_SEPARATOR +
+                Math.round(geographicCoordinates.getLongitude() * KEY_SCALE);
+    }
+
+    static Transition next(final GeographicCoordinates geographicCoordinates, final long after) {
+        final LocalDate today = LocalDate.ofEpochDay(Math.floorDiv(after, MILLIS_PER_DAY / MILLIS_PER_SECOND));
+        Transition next = null;
+        for (int day = -DAYS_BEHIND; day <= DAYS_AHEAD; day++) {
+            final long[] times = SunriseSunsetCalculator.transitions(geographicCoordinates.getLatitude(),
+                    geographicCoordinates.getLongitude(), today.plusDays(day));
+            for (int type = 0; type < SunriseSunsetCalculator.TRANSITIONS; type++) {
+                final long time = times[type];
+                if (time != SunriseSunsetCalculator.NO_TRANSITION && time > after &&
+                        (next == null || time < next.epochSecond)) {
+                    next = new Transition(type, time);
+                }
+            }
+        }
+        return next;
+    }
+
+    static final class Transition {
+        private final int type;
+        private final long epochSecond;
+
+        private Transition(final int type, final long epochSecond) {
+            this.type = type;
+            this.epochSecond = epochSecond;
+        }
+
+        String getType() {
+            return TYPES[type];
+        }
+
+        long getEpochSecond() {
+            return epochSecond;
+        }
+
+        private SunEvent toEvent(final String location, final boolean upcoming) {
+            return new SunEvent(location, TYPES[type], SunriseSunsetCalculator.format(epochSecond), upcoming);
+        }
+    }
+
+    private final class LocationTimer implements TimerTask {
+        private final GeographicCoordinates geographicCoordinates;
+        private final FluxSink<Transition> sink;
+        private volatile Transition pending;
+        private volatile Timeout timeout;
+        private volatile boolean cancelled;
+
+        private LocationTimer(final GeographicCoordinates geographicCoordinates, final FluxSink<Transition> sink) {
+            this.geographicCoordinates = geographicCoordinates;
+            this.sink = sink;
+        }
+
+        private void schedule() {
+            final long now = clock.millis();
+            pending = next(geographicCoordinates, now / MILLIS_PER_SECOND);
+            final long at = pending != null ? pending.epochSecond * MILLIS_PER_SECOND :
+                    (Math.floorDiv(now, MILLIS_PER_DAY) + 1) * MILLIS_PER_DAY;
+            timeout = timer.newTimeout(this, Math.max(0, at - now), TimeUnit.MILLISECONDS);
+            if (cancelled) {
+                timeout.cancel();
+            }
+        }
+
+        @Override
+        public void run(final Timeout timeout) {
+            if (cancelled) {
+                return;
+            }
+            final Transition transition = pending;
+            if (transition != null) {
+                sink.next(transition);
+            }
+            schedule();
+        }
+
+        private void cancel() {
+            cancelled = true;
+            final Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.learning.by.example.reactive.microservices.model.GeoTimesResponse;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+final class SunriseSunsetCalculator {
+
+    static final double SUNRISE_ZENITH = 90.833;
+    static final double CIVIL_ZENITH = 96.0;
+    static final double NAUTICAL_ZENITH = 102.0;
+    static final double ASTRONOMICAL_ZENITH = 108.0;
+    static final int TRANSITIONS = 8;
+    static final long NO_TRANSITION = Long.MIN_VALUE;
+
+    private static final double JULIAN_DAY_EPOCH = 2440587.5;
+    private static final double JULIAN_DAY_J2000 = 2451545.0;
+    private static final double DAYS_PER_CENTURY = 36525.0;
+    private static final double MINUTES_PER_DAY = 1440.0;
+    private static final double NOON_MINUTES = 720.0;
+    private static final long SECONDS_PER_DAY = 86400L;
+    private static final long SECONDS_PER_MINUTE = 60L;
+    private static final long NO_EVENT = 1L;
+    private static final int REFINEMENTS = 2;
+    private static final double[] TRANSITION_ZENITHS = {ASTRONOMICAL_ZENITH, NAUTICAL_ZENITH, CIVIL_ZENITH,
+            SUNRISE_ZENITH, SUNRISE_ZENITH, CIVIL_ZENITH, NAUTICAL_ZENITH, ASTRONOMICAL_ZENITH};
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssxxx")
+            .withZone(ZoneOffset.UTC);
+
+    private SunriseSunsetCalculator() {
+    }
+
+    static GeoTimesResponse.Results calculate(final double latitude, final double longitude, final LocalDate date) {
+        final long midnight = date.toEpochDay() * SECONDS_PER_DAY;
+        final double julianDay = JULIAN_DAY_EPOCH + date.toEpochDay();
+
+        final double solarNoon = solarNoon(longitude, julianDay);
+        final double sunrise = event(latitude, longitude, julianDay, solarNoon, SUNRISE_ZENITH, true);
+        final double sunset = event(latitude, longitude, julianDay, solarNoon, SUNRISE_ZENITH, false);
+
+        return new GeoTimesResponse.Results(
+                format(midnight, sunrise),
+                format(midnight, sunset),
+                format(midnight, solarNoon),
+                dayLength(latitude, julianDay, solarNoon, sunrise, sunset),
+                format(midnight, event(latitude, longitude, julianDay, solarNoon, CIVIL_ZENITH, true)),
+                format(midnight, event(latitude, longitude, julianDay, solarNoon, CIVIL_ZENITH, false)),
+                format(midnight, event(latitude, longitude, julianDay, solarNoon, NAUTICAL_ZENITH, true)),
+                format(midnight, event(latitude, longitude, julianDay, solarNoon, NAUTICAL_ZENITH, false)),
+                format(midnight, event(latitude, longitude, julianDay, solarNoon, ASTRONOMICAL_ZENITH, true)),
+                format(midnight, event(latitude, longitude, julianDay, solarNoon, ASTRONOMICAL_ZENITH, false)));
+    }
+
+    static long[] transitions(final double latitude, final double longitude, final LocalDate date) {
+        final long midnight = date.toEpochDay() * SECONDS_PER_DAY;
+        final double julianDay = JULIAN_DAY_EPOCH + date.toEpochDay();
+        final double solarNoon = solarNoon(longitude, julianDay);
+        final long[] transitions = new long[TRANSITIONS];
+        for (int i = 0; i < TRANSITIONS; i++) {
+            final double minutes = event(latitude, longitude, julianDay, solarNoon, TRANSITION_ZENITHS[i],
+                    i < TRANSITIONS / 2);
+            transitions[i] = Double.isNaN(minutes) ? NO_TRANSITION : midnight + Math.round(minutes * SECONDS_PER_MINUTE);
+        }
+        return transitions;
+    }
+
+    static double solarNoon(final double longitude, final double julianDay) {
+        double noon = NOON_MINUTES - 4.0 * longitude;
+        for (int i = 0; i < REFINEMENTS; i++) {
+            noon = NOON_MINUTES - 4.0 * longitude - equationOfTime(julianCentury(julianDay, noon));
+        }
+        return noon;
+    }
+
+    static double event(final double latitude, final double longitude, final double julianDay, final double solarNoon,
+                        final double zenith, final boolean rising) {
+        double time = solarNoon;
+        for (int i = 0; i < REFINEMENTS; i++) {
+            final double t = julianCentury(julianDay, time);
+            final double hourAngle = hourAngle(latitude, declination(t), zenith);
+            if (Double.isNaN(hourAngle)) {
+                return Double.NaN;
+            }
+            final double noon = NOON_MINUTES - 4.0 * longitude - equationOfTime(t);
+            time = rising ? noon - 4.0 * hourAngle : noon + 4.0 * hourAngle;
+        }
+        return time;
+    }
+
+    private static long dayLength(final double latitude, final double julianDay, final double solarNoon,
+                                  final double sunrise, final double sunset) {
+        if (Double.isNaN(sunrise) || Double.isNaN(sunset)) {
+            final double declination = declination(julianCentury(julianDay, solarNoon));
+            return hourAngleCosine(latitude, declination, SUNRISE_ZENITH) < -1.0 ? SECONDS_PER_DAY : 0L;
+        }
+        return Math.round((sunset - sunrise) * SECONDS_PER_MINUTE);
+    }
+
+    private static double julianCentury(final double julianDay, final double minutes) {
+        return (julianDay + minutes / MINUTES_PER_DAY - JULIAN_DAY_J2000) / DAYS_PER_CENTURY;
+    }
+
+    private static double hourAngle(final double latitude, final double declination, final double zenith) {
+        final double cosine = hourAngleCosine(latitude, declination, zenith);
+        if (cosine < -1.0 || cosine > 1.0) {
+            return Double.NaN;
+        }
+        return Math.toDegrees(Math.acos(cosine));
+    }
+
+    private static double hourAngleCosine(final double latitude, final double declination, final double zenith) {
+        final double latitudeRadians = Math.toRadians(latitude);
+        return Math.cos(Math.toRadians(zenith)) / (Math.cos(latitudeRadians) * Math.cos(declination))
+                - Math.tan(latitudeRadians) * Math.tan(declination);
+    }
+
+    private static double geometricMeanLongitude(final double t) {
+        final double longitude = (280.46646 + t * (36000.76983 + t * 0.0003032)) % 360.0;
+        return longitude < 0 ? longitude + 360.0 : longitude;
+    }
+
+    private static double geometricMeanAnomaly(final double t) {
+        return 357.52911 + t * (35999.05029 - 0.0001537 * t);
+    }
+
+    private static double eccentricity(final double t) {
+        return 0.016708634 - t * (0.000042037 + 0.0000001267 * t);
+    }
+
+    private static double obliquityCorrection(final double t) {
+        final double seconds = 21.448 - t * (46.8150 + t * (0.00059 - t * 0.001813));
+        final double meanObliquity = 23.0 + (26.0 + seconds / 60.0) / 60.0;
+        return meanObliquity + 0.00256 * Math.cos(Math.toRadians(125.04 - 1934.136 * t));
+    }
+
+    private static double declination(final double t) {
+        final double anomaly = Math.toRadians(geometricMeanAnomaly(t));
+        final double center = Math.sin(anomaly) * (1.914602 - t * (0.004817 + 0.000014 * t))
+                + Math.sin(2.0 * anomaly) * (0.019993 - 0.000101 * t)
+                + Math.sin(3.0 * anomaly) * 0.000289;
+        final double trueLongitude = geometricMeanLongitude(t) + center;
+        final double apparentLongitude = trueLongitude - 0.00569
+                - 0.00478 * Math.sin(Math.toRadians(125.04 - 1934.136 * t));
+        return Math.asin(Math.sin(Math.toRadians(obliquityCorrection(t))) * Math.sin(Math.toRadians(apparentLongitude)));
+    }
+
+    private static double equationOfTime(final double t) {
+        final double obliquity = Math.toRadians(obliquityCorrection(t));
+        final double meanLongitude = Math.toRadians(geometricMeanLongitude(t));
+        final double anomaly = Math.toRadians(geometricMeanAnomaly(t));
+        final double eccentricity = eccentricity(t);
+        final double y = Math.tan(obliquity / 2.0) * Math.tan(obliquity / 2.0);
+
+        final double equation = y * Math.sin(2.0 * meanLongitude)
+                - 2.0 * eccentricity * Math.sin(anomaly)
+                + 4.0 * eccentricity * y * Math.sin(anomaly) * Math.cos(2.0 * meanLongitude)
+                - 0.5 * y * y * Math.sin(4.0 * meanLongitude)
+                - 1.25 * eccentricity * eccentricity * Math.sin(2.0 * anomaly);
+        return 4.0 * Math.toDegrees(equation);
+    }
+
+    static String format(final long epochSecond) {
+        return FORMATTER.format(Instant.ofEpochSecond(epochSecond));
+    }
+
+    private static String format(final long midnight, final double minutes) {
+        if (Double.isNaN(minutes)) {
+            return format(NO_EVENT);
+        }
+        return format(midnight + Math.round(minutes * SECONDS_PER_MINUTE));
+    }
+}
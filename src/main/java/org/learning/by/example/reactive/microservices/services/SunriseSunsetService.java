@@ -4,7 +4,14 @@ import org.learning.by.example.reactive.microservices.model.GeographicCoordinate
 import org.learning.by.example.reactive.microservices.model.SunriseSunset;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
 public interface SunriseSunsetService {
 
-    Mono<SunriseSunset> fromGeographicCoordinates(Mono<GeographicCoordinates> geographicCoordinatesMono);
+    default Mono<SunriseSunset> fromGeographicCoordinates(Mono<GeographicCoordinates> geographicCoordinatesMono) {
+        return fromGeographicCoordinates(geographicCoordinatesMono, LocalDate.now(ZoneOffset.UTC));
+    }
+
+    Mono<SunriseSunset> fromGeographicCoordinates(Mono<GeographicCoordinates> geographicCoordinatesMono, LocalDate date);
 }
@@ -1,5 +1,6 @@
 package org.learning.by.example.reactive.microservices.services;
 
+import org.learning.by.example.reactive.microservices.exceptions.CircuitBreakerOpenException;
 import org.learning.by.example.reactive.microservices.exceptions.GetSunriseSunsetException;
 import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
 import org.learning.by.example.reactive.microservices.model.SunriseSunset;
@@ -8,6 +9,8 @@ import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+
 public class SunriseSunsetServiceImpl implements SunriseSunsetService {
 
     private static final String BEGIN_PARAMETERS = "?";
@@ -20,46 +23,95 @@ public class SunriseSunsetServiceImpl implements SunriseSunsetService {
     private static final String FORMATTED_PARAMETER = "formatted" + EQUALS;
     private static final String NOT_FORMATTED = "0";
     private static final String ERROR_GETTING_DATA = "error getting sunrise and sunset";
-    private static final String SUNRISE_RESULT_NOT_OK = "sunrise and sunrise result was not OK";
     private static final String STATUS_OK = "OK";
 
     WebClient webClient;
+    private final InFlightRequests<String, GeoTimesResponse> inFlightRequests = new InFlightRequests<>();
     private final String endPoint;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final SunriseSunsetService fallback;
 
     public SunriseSunsetServiceImpl(final String endPoint) {
+        this(endPoint, WebClient.create());
+    }
+
+    public SunriseSunsetServiceImpl(final String endPoint, final WebClient webClient) {
+        this(endPoint, webClient, TokenBucketRateLimiter.UNLIMITED);
+    }
+
+    public SunriseSunsetServiceImpl(final String endPoint, final WebClient webClient,
+                                    final TokenBucketRateLimiter rateLimiter) {
+        this(endPoint, webClient, rateLimiter, CircuitBreaker.DISABLED, null);
+    }
+
+    public SunriseSunsetServiceImpl(final String endPoint, final WebClient webClient,
+                                    final TokenBucketRateLimiter rateLimiter, final CircuitBreaker circuitBreaker,
+                                    final SunriseSunsetService fallback) {
         this.endPoint = endPoint;
-        this.webClient = WebClient.create();
+        this.webClient = webClient;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.fallback = fallback;
     }
 
     @Override
     public Mono<SunriseSunset> fromGeographicCoordinates(Mono<GeographicCoordinates> location) {
-        return location
+        return location.flatMap(geographicCoordinates -> Mono.just(geographicCoordinates)
                 .transform(this::buildUrl)
+                .transform(this::fromUrl)
+                .onErrorResume(this::isCircuitOpen,
+                        throwable -> fallback.fromGeographicCoordinates(Mono.just(geographicCoordinates))));
+    }
+
+    @Override
+    public Mono<SunriseSunset> fromGeographicCoordinates(Mono<GeographicCoordinates> location, LocalDate date) {
+        return location.flatMap(geographicCoordinates -> Mono.just(geographicCoordinates)
+                .transform(geographicCoordinatesMono -> buildUrl(geographicCoordinatesMono, date))
+                .transform(this::fromUrl)
+                .onErrorResume(this::isCircuitOpen,
+                        throwable -> fallback.fromGeographicCoordinates(Mono.just(geographicCoordinates), date)));
+    }
+
+    private boolean isCircuitOpen(final Throwable throwable) {
+        return fallback != null && throwable.getCause() instanceof CircuitBreakerOpenException;
+    }
+
+    private Mono<SunriseSunset> fromUrl(final Mono<String> urlMono) {
+        return urlMono
                 .transform(this::get)
-                .onErrorResume(throwable -> Mono.error(new GetSunriseSunsetException(ERROR_GETTING_DATA, throwable)))
+                .onErrorResume(throwable -> Mono.error(new GetSunriseSunsetException(ERROR_GETTING_DATA, throwable, false)))
                 .transform(this::createResult);
     }
 
     Mono<String> buildUrl(final Mono<GeographicCoordinates> geographicCoordinatesMono) {
+        return buildUrl(geographicCoordinatesMono, TODAY_DATE);
+    }
+
+    Mono<String> buildUrl(final Mono<GeographicCoordinates> geographicCoordinatesMono, final LocalDate date) {
+        return buildUrl(geographicCoordinatesMono, date.toString());
+    }
+
+    private Mono<String> buildUrl(final Mono<GeographicCoordinates> geographicCoordinatesMono, final String date) {
         return geographicCoordinatesMono.flatMap(geographicCoordinates -> Mono.just(endPoint
                 .concat(BEGIN_PARAMETERS)
                 .concat(LATITUDE_PARAMETER).concat(Double.toString(geographicCoordinates.getLatitude()))
                 .concat(NEXT_PARAMETER)
                 .concat(LONGITUDE_PARAMETER).concat(Double.toString(geographicCoordinates.getLongitude()))
                 .concat(NEXT_PARAMETER)
-                .concat(DATE_PARAMETER).concat(TODAY_DATE)
+                .concat(DATE_PARAMETER).concat(date)
                 .concat(NEXT_PARAMETER)
                 .concat(FORMATTED_PARAMETER).concat(NOT_FORMATTED)
         ));
     }
 
     Mono<GeoTimesResponse> get(final Mono<String> monoUrl) {
-        return monoUrl.flatMap(url -> webClient
+        return monoUrl.flatMap(url -> inFlightRequests.get(url, () -> rateLimiter.limit(circuitBreaker.protect(webClient
                 .get()
                 .uri(url)
                 .accept(MediaType.APPLICATION_JSON)
                 .exchange()
-                .flatMap(clientResponse -> clientResponse.bodyToMono(GeoTimesResponse.class)));
+                .flatMap(clientResponse -> clientResponse.bodyToMono(GeoTimesResponse.class))))));
     }
 
     Mono<SunriseSunset> createResult(final Mono<GeoTimesResponse> geoTimesResponseMono) {
@@ -68,7 +120,7 @@ public class SunriseSunsetServiceImpl implements SunriseSunsetService {
                 return Mono.just(new SunriseSunset(geoTimesResponse.getResults().getSunrise(),
                         geoTimesResponse.getResults().getSunset()));
             } else {
-                return Mono.error(new GetSunriseSunsetException(SUNRISE_RESULT_NOT_OK));
+                return Mono.error(GetSunriseSunsetException.RESULT_NOT_OK);
             }
         });
     }
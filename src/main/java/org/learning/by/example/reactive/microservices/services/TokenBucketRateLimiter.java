@@ -0,0 +1,79 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.learning.by.example.reactive.microservices.exceptions.UpstreamRateLimitedException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class TokenBucketRateLimiter {
+
+    public static final TokenBucketRateLimiter UNLIMITED = new TokenBucketRateLimiter();
+    static final long REJECTED = -1L;
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long interval;
+    private final long burstTolerance;
+    private final long maxWait;
+    private final LongSupplier nanoTime;
+    private final AtomicLong theoreticalArrival;
+
+    private TokenBucketRateLimiter() {
+        this.interval = 0;
+        this.burstTolerance = 0;
+        this.maxWait = 0;
+        this.nanoTime = System::nanoTime;
+        this.theoreticalArrival = new AtomicLong();
+    }
+
+    public TokenBucketRateLimiter(final double ratePerSecond, final int burst, final long maxWait) {
+        this(ratePerSecond, burst, maxWait, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(final double ratePerSecond, final int burst, final long maxWait,
+                           final LongSupplier nanoTime) {
+        if (!(ratePerSecond > 0) || burst < 1 || maxWait < 0) {
+            throw new IllegalArgumentException("invalid rate limit of " + ratePerSecond + " per second, burst " +
+                    burst + " and maximum wait " + maxWait);
+        }
+        this.interval = Math.max(1L, (long) (NANOS_PER_SECOND / ratePerSecond));
+        this.burstTolerance = interval * (burst - 1);
+        this.maxWait = TimeUnit.MILLISECONDS.toNanos(maxWait);
+        this.nanoTime = nanoTime;
+        this.theoreticalArrival = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    <T> Mono<T> limit(final Mono<T> mono) {
+        if (interval == 0) {
+            return mono;
+        }
+        return Mono.defer(() -> {
+            final long delay = reserve();
+            if (delay == REJECTED) {
+                return Mono.error(UpstreamRateLimitedException.RATE_LIMITED);
+            }
+            if (delay == 0) {
+                return mono;
+            }
+            return Mono.delay(Duration.ofNanos(delay)).then(mono);
+        });
+    }
+
+    long reserve() {
+        final long now = nanoTime.getAsLong();
+        while (true) {
+            final long arrival = theoreticalArrival.get();
+            final long start = arrival - now > 0 ? arrival : now;
+            final long wait = start - burstTolerance - now;
+            if (wait > maxWait) {
+                return REJECTED;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + interval)) {
+                return Math.max(0, wait);
+            }
+        }
+    }
+}
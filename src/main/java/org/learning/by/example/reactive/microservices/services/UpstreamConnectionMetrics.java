@@ -0,0 +1,122 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import reactor.core.publisher.Mono;
+import reactor.ipc.netty.resources.PoolResources;
+
+import java.net.SocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class UpstreamConnectionMetrics implements PoolResources {
+
+    private final PoolResources poolResources;
+    private final AtomicInteger open = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder acquires = new LongAdder();
+
+    public UpstreamConnectionMetrics(final PoolResources poolResources) {
+        this.poolResources = poolResources;
+    }
+
+    @Override
+    public ChannelPool selectOrCreate(final SocketAddress address, final Supplier<? extends Bootstrap> bootstrap,
+                                      final Consumer<? super Channel> onChannelCreate, final EventLoopGroup group) {
+        return new MeteredChannelPool(poolResources.selectOrCreate(address, bootstrap, channel -> {
+            open.incrementAndGet();
+            channel.closeFuture().addListener(future -> open.decrementAndGet());
+            onChannelCreate.accept(channel);
+        }, group));
+    }
+
+    @Override
+    public void dispose() {
+        poolResources.dispose();
+    }
+
+    @Override
+    public Mono<Void> disposeLater() {
+        return poolResources.disposeLater();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return poolResources.isDisposed();
+    }
+
+    public int getOpen() {
+        return open.get();
+    }
+
+    public int getActive() {
+        return active.get();
+    }
+
+    public int getIdle() {
+        return Math.max(open.get() - active.get(), 0);
+    }
+
+    public int getPendingAcquires() {
+        return pending.get();
+    }
+
+    public long getAcquires() {
+        return acquires.sum();
+    }
+
+    private final class MeteredChannelPool implements ChannelPool {
+
+        private final ChannelPool channelPool;
+
+        private MeteredChannelPool(final ChannelPool channelPool) {
+            this.channelPool = channelPool;
+        }
+
+        @Override
+        public Future<Channel> acquire() {
+            return metered(channelPool.acquire());
+        }
+
+        @Override
+        public Future<Channel> acquire(final Promise<Channel> promise) {
+            return metered(channelPool.acquire(promise));
+        }
+
+        @Override
+        public Future<Void> release(final Channel channel) {
+            active.decrementAndGet();
+            return channelPool.release(channel);
+        }
+
+        @Override
+        public Future<Void> release(final Channel channel, final Promise<Void> promise) {
+            active.decrementAndGet();
+            return channelPool.release(channel, promise);
+        }
+
+        @Override
+        public void close() {
+            channelPool.close();
+        }
+
+        private Future<Channel> metered(final Future<Channel> acquired) {
+            acquires.increment();
+            pending.incrementAndGet();
+            acquired.addListener(future -> {
+                pending.decrementAndGet();
+                if (future.isSuccess()) {
+                    active.incrementAndGet();
+                }
+            });
+            return acquired;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.learning.by.example.reactive.microservices.application;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.test.load.LoadReport;
+import org.learning.by.example.reactive.microservices.test.load.OpenModelLoadGenerator;
+import org.learning.by.example.reactive.microservices.test.load.StubUpstreamServer;
+import org.learning.by.example.reactive.microservices.test.tags.LoadTest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+@LoadTest
+@DisplayName("ReactiveMsApplication Load Tests")
+class ReactiveMsApplicationLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveMsApplicationLoadTest.class);
+
+    private static final String GEO_LOCATION_JSON = "/json/GeoLocationResponse_OK.json";
+    private static final String GEO_TIMES_JSON = "/json/GeoTimesResponse_OK.json";
+    private static final String LOCATION_PATH = "/api/location/{address}";
+    private static final String ADDRESS_PREFIX = "load test address ";
+    private static final String LOCAL_SERVER_PORT = "local.server.port";
+
+    private static final String RATES = System.getProperty("loadtest.rates", "100,200,400");
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration", 10L));
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(Long.getLong("loadtest.latency", 50L));
+    private static final double UPSTREAM_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.errorRate", "0"));
+    private static final boolean CACHES = Boolean.getBoolean("loadtest.caches");
+
+    private static StubUpstreamServer geoLocationUpstream;
+    private static StubUpstreamServer sunriseSunsetUpstream;
+    private static ConfigurableApplicationContext application;
+    private static WebClient client;
+
+    @BeforeAll
+    static void setupAll() {
+        geoLocationUpstream = new StubUpstreamServer(GEO_LOCATION_JSON, UPSTREAM_LATENCY, UPSTREAM_ERROR_RATE);
+        sunriseSunsetUpstream = new StubUpstreamServer(GEO_TIMES_JSON, UPSTREAM_LATENCY, UPSTREAM_ERROR_RATE);
+        application = new SpringApplicationBuilder(ReactiveMsApplication.class)
+                .properties("server.port=0",
+                        "GeoLocationServiceImpl.endPoint=" + geoLocationUpstream.getEndPoint(),
+                        "SunriseSunsetServiceImpl.endPoint=" + sunriseSunsetUpstream.getEndPoint(),
+                        "GeoLocationServiceCache.enabled=" + CACHES,
+                        "SunriseSunsetServiceCache.enabled=" + CACHES,
+                        "GeoLocationServiceRateLimit.enabled=false",
+                        "SunriseSunsetServiceRateLimit.enabled=false",
+                        "SunriseSunsetServiceCircuitBreaker.enabled=false")
+                .run();
+        client = WebClient.create("http://localhost:" + application.getEnvironment().getProperty(LOCAL_SERVER_PORT));
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        application.close();
+        geoLocationUpstream.close();
+        sunriseSunsetUpstream.close();
+    }
+
+    @Test
+    void getLocationLoadTest() {
+        final AtomicLong addresses = new AtomicLong();
+        Arrays.stream(RATES.split(",")).map(String::trim).mapToInt(Integer::parseInt).forEach(rate -> {
+            final LoadReport report = new OpenModelLoadGenerator(rate, DURATION)
+                    .run(() -> getLocation(ADDRESS_PREFIX + addresses.incrementAndGet()));
+
+            logger.info("GET {} {}", LOCATION_PATH, report);
+
+            assertThat(report.getRequests(), greaterThan(0L));
+            if (UPSTREAM_ERROR_RATE == 0) {
+                assertThat(report.getErrors(), is(0L));
+            }
+        });
+    }
+
+    private static Mono<String> getLocation(final String address) {
+        return client.get()
+                .uri(LOCATION_PATH, address)
+                .accept(APPLICATION_JSON)
+                .exchange()
+                .flatMap(response -> response.statusCode().is2xxSuccessful() ?
+                        response.bodyToMono(String.class) :
+                        Mono.error(new IllegalStateException(response.statusCode().toString())));
+    }
+}
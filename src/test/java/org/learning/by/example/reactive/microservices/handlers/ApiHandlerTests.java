@@ -15,10 +15,16 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -32,8 +38,21 @@ class ApiHandlerTests {
     private static final String SUNSET_TIME = "3:14:28 AM";
     private static final double GOOGLE_LAT = 37.4224082;
     private static final double GOOGLE_LNG = -122.0856086;
+    private static final double HINT_LAT = 37.42;
+    private static final double HINT_LNG = -122.08;
+    private static final double FAR_LAT = 51.508039;
+    private static final double FAR_LNG = -0.128069;
+    private static final double INVALID_LAT = 91;
+    private static final String LAT_PARAM = "lat";
+    private static final String LNG_PARAM = "lng";
+    private static final String DATE_PARAM = "date";
+    private static final LocalDate FIXTURE_DATE = LocalDate.of(2017, 5, 21);
+    private static final String INVALID_DATE = "yesterday";
+    private static final int DAYS = 7;
     private static final String NOT_FOUND = "not found";
     private static final String CANT_GET_LOCATION = "cant get location";
+    private static final String INVALID_BODY = "invalid body";
+    private static final String INVALID_REQUEST = "invalid request";
     private static final String CANT_GET_SUNRISE_SUNSET = "can't get sunrise sunset";
 
     private static final Mono<GeographicCoordinates> GOOGLE_LOCATION = Mono.just(new GeographicCoordinates(GOOGLE_LAT, GOOGLE_LNG));
@@ -183,4 +202,227 @@ class ApiHandlerTests {
         reset(geoLocationService);
         reset(sunriseSunsetService);
     }
+
+    @Test
+    void postLocationsTest() {
+        ServerRequest serverRequest = mock(ServerRequest.class);
+        when(serverRequest.bodyToFlux(LocationRequest.class)).thenReturn(Flux.just(new LocationRequest(GOOGLE_ADDRESS),
+                new LocationRequest(GOOGLE_ADDRESS)));
+
+        doReturn(GOOGLE_LOCATION).when(geoLocationService).fromAddress(any());
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any());
+
+        final ServerResponse serverResponse = apiHandler.postLocations(serverRequest).block();
+
+        assertThat(serverResponse.statusCode(), is(HttpStatus.OK));
+
+        final List<BulkLocationResponse> responses = HandlersHelper.extractEntities(serverResponse, BulkLocationResponse.class);
+
+        assertThat(responses.size(), is(2));
+        responses.forEach(response -> {
+            assertThat(response.getAddress(), is(GOOGLE_ADDRESS));
+            assertThat(response.getStatus(), is(HttpStatus.OK.value()));
+            assertThat(response.getError(), is(nullValue()));
+            verifyLocationResponse(response.getLocation());
+        });
+
+        reset(geoLocationService);
+        reset(sunriseSunsetService);
+    }
+
+    @Test
+    void postLocationsInvalidBodyTest() {
+        ServerRequest serverRequest = mock(ServerRequest.class);
+        when(serverRequest.bodyToFlux(LocationRequest.class)).thenReturn(Flux.error(new RuntimeException(INVALID_BODY)));
+
+        final ServerResponse serverResponse = apiHandler.postLocations(serverRequest).block();
+
+        assertThat(serverResponse.statusCode(), is(HttpStatus.BAD_REQUEST));
+
+        ErrorResponse error = HandlersHelper.extractEntity(serverResponse, ErrorResponse.class);
+
+        assertThat(error.getError(), is(INVALID_REQUEST));
+    }
+
+    @Test
+    void postLocationsTruncatedBodyTest() {
+        ServerRequest serverRequest = mock(ServerRequest.class);
+        when(serverRequest.bodyToFlux(LocationRequest.class)).thenReturn(Flux.concat(
+                Flux.just(new LocationRequest(GOOGLE_ADDRESS)), Flux.error(new RuntimeException(INVALID_BODY))));
+
+        doReturn(GOOGLE_LOCATION).when(geoLocationService).fromAddress(any());
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any());
+
+        final ServerResponse serverResponse = apiHandler.postLocations(serverRequest).block();
+
+        assertThat(serverResponse.statusCode(), is(HttpStatus.OK));
+
+        final List<BulkLocationResponse> responses = HandlersHelper.extractEntities(serverResponse, BulkLocationResponse.class);
+
+        assertThat(responses.size(), is(2));
+        assertThat(responses.get(0).getStatus(), is(HttpStatus.OK.value()));
+        assertThat(responses.get(1).getStatus(), is(HttpStatus.BAD_REQUEST.value()));
+        assertThat(responses.get(1).getError().getError(), is(INVALID_REQUEST));
+
+        reset(geoLocationService);
+        reset(sunriseSunsetService);
+    }
+
+    @Test
+    void bulkLocationNotFoundTest() {
+        doReturn(LOCATION_NOT_FOUND).when(geoLocationService).fromAddress(any());
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any());
+
+        final BulkLocationResponse response = apiHandler.bulkLocation(new LocationRequest(GOOGLE_ADDRESS)).block();
+
+        assertThat(response.getAddress(), is(GOOGLE_ADDRESS));
+        assertThat(response.getStatus(), is(HttpStatus.NOT_FOUND.value()));
+        assertThat(response.getLocation(), is(nullValue()));
+        assertThat(response.getError().getError(), is(NOT_FOUND));
+
+        reset(geoLocationService);
+        reset(sunriseSunsetService);
+    }
+
+    @Test
+    void bulkLocationMissingAddressTest() {
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any());
+
+        final BulkLocationResponse response = apiHandler.bulkLocation(new LocationRequest(null)).block();
+
+        assertThat(response.getAddress(), is(""));
+        assertThat(response.getStatus(), is(HttpStatus.BAD_REQUEST.value()));
+
+        reset(sunriseSunsetService);
+    }
+
+    @Test
+    void getSunriseSunsetTest() {
+        final ServerRequest serverRequest = mock(ServerRequest.class);
+        when(serverRequest.queryParam(LAT_PARAM)).thenReturn(Optional.of(String.valueOf(GOOGLE_LAT)));
+        when(serverRequest.queryParam(LNG_PARAM)).thenReturn(Optional.of(String.valueOf(GOOGLE_LNG)));
+
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any());
+
+        final ServerResponse serverResponse = apiHandler.getSunriseSunset(serverRequest).block();
+        verifyServerResponse(serverResponse);
+
+        verify(geoLocationService, never()).fromAddress(any());
+
+        reset(geoLocationService);
+        reset(sunriseSunsetService);
+    }
+
+    @Test
+    void getSunriseSunsetMissingCoordinatesTest() {
+        final ServerRequest serverRequest = mock(ServerRequest.class);
+        when(serverRequest.queryParam(LAT_PARAM)).thenReturn(Optional.of(String.valueOf(GOOGLE_LAT)));
+        when(serverRequest.queryParam(LNG_PARAM)).thenReturn(Optional.empty());
+
+        final ServerResponse serverResponse = apiHandler.getSunriseSunset(serverRequest).block();
+
+        assertThat(serverResponse.statusCode(), is(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void locationResponseCoordinatesTest() {
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any());
+
+        final LocationResponse locationResponse = apiHandler.locationResponse(
+                new LocationRequest(null, GOOGLE_LAT, GOOGLE_LNG)).block();
+        verifyLocationResponse(locationResponse);
+
+        verify(geoLocationService, never()).fromAddress(any());
+
+        reset(geoLocationService);
+        reset(sunriseSunsetService);
+    }
+
+    @Test
+    void locationResponseNearHintTest() {
+        doReturn(GOOGLE_LOCATION).when(geoLocationService).fromAddress(any());
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any());
+
+        final LocationResponse locationResponse = apiHandler.locationResponse(
+                new LocationRequest(GOOGLE_ADDRESS, HINT_LAT, HINT_LNG)).block();
+        verifyLocationResponse(locationResponse);
+
+        verify(geoLocationService, times(1)).fromAddress(any());
+        verify(sunriseSunsetService, times(1)).fromGeographicCoordinates(any());
+
+        reset(geoLocationService);
+        reset(sunriseSunsetService);
+    }
+
+    @Test
+    void locationResponseFarHintTest() {
+        doReturn(GOOGLE_LOCATION).when(geoLocationService).fromAddress(any());
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any());
+
+        final LocationResponse locationResponse = apiHandler.locationResponse(
+                new LocationRequest(GOOGLE_ADDRESS, FAR_LAT, FAR_LNG)).block();
+        verifyLocationResponse(locationResponse);
+
+        verify(sunriseSunsetService, times(2)).fromGeographicCoordinates(any());
+
+        reset(geoLocationService);
+        reset(sunriseSunsetService);
+    }
+
+    @Test
+    void bulkLocationInvalidCoordinatesTest() {
+        final BulkLocationResponse response = apiHandler.bulkLocation(
+                new LocationRequest(GOOGLE_ADDRESS, INVALID_LAT, GOOGLE_LNG)).block();
+
+        assertThat(response.getStatus(), is(HttpStatus.BAD_REQUEST.value()));
+        verify(geoLocationService, never()).fromAddress(any());
+
+        reset(geoLocationService);
+    }
+
+    @Test
+    void getSunriseSunsetOnDateTest() {
+        final ServerRequest serverRequest = mock(ServerRequest.class);
+        when(serverRequest.queryParam(LAT_PARAM)).thenReturn(Optional.of(String.valueOf(GOOGLE_LAT)));
+        when(serverRequest.queryParam(LNG_PARAM)).thenReturn(Optional.of(String.valueOf(GOOGLE_LNG)));
+        when(serverRequest.queryParam(DATE_PARAM)).thenReturn(Optional.of(FIXTURE_DATE.toString()));
+
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any(), any());
+
+        final ServerResponse serverResponse = apiHandler.getSunriseSunset(serverRequest).block();
+        verifyServerResponse(serverResponse);
+
+        verify(sunriseSunsetService, times(1)).fromGeographicCoordinates(any(), eq(FIXTURE_DATE));
+
+        reset(sunriseSunsetService);
+    }
+
+    @Test
+    void getSunriseSunsetInvalidDateTest() {
+        final ServerRequest serverRequest = mock(ServerRequest.class);
+        when(serverRequest.queryParam(LAT_PARAM)).thenReturn(Optional.of(String.valueOf(GOOGLE_LAT)));
+        when(serverRequest.queryParam(LNG_PARAM)).thenReturn(Optional.of(String.valueOf(GOOGLE_LNG)));
+        when(serverRequest.queryParam(DATE_PARAM)).thenReturn(Optional.of(INVALID_DATE));
+
+        final ServerResponse serverResponse = apiHandler.getSunriseSunset(serverRequest).block();
+
+        assertThat(serverResponse.statusCode(), is(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void daysTest() {
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any(), any());
+
+        final List<DailySunriseSunset> days = apiHandler.days(new GeographicCoordinates(GOOGLE_LAT, GOOGLE_LNG),
+                Flux.range(0, DAYS).map(FIXTURE_DATE::plusDays)).collectList().block();
+
+        assertThat(days.size(), is(DAYS));
+        for (int i = 0; i < DAYS; i++) {
+            assertThat(days.get(i).getDate(), is(FIXTURE_DATE.plusDays(i).toString()));
+            assertThat(days.get(i).getSunriseSunset().getSunrise(), is(SUNRISE_TIME));
+        }
+        verify(sunriseSunsetService, times(DAYS)).fromGeographicCoordinates(any(), any());
+
+        reset(sunriseSunsetService);
+    }
 }
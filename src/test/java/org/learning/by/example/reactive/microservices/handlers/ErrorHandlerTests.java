@@ -22,6 +22,7 @@ import static org.hamcrest.Matchers.is;
 class ErrorHandlerTests {
 
     private static final String NOT_FOUND = "not found";
+    private static final String BIG_ERROR = "big error";
 
     @Autowired
     private ErrorHandler errorHandler;
@@ -44,6 +45,12 @@ class ErrorHandlerTests {
                 .subscribe(checkResponse(HttpStatus.NOT_FOUND, NOT_FOUND));
     }
 
+    @Test
+    void getResponseDynamicTest() {
+        Mono.just(new RuntimeException(BIG_ERROR)).transform(errorHandler::getResponse)
+                .subscribe(checkResponse(HttpStatus.INTERNAL_SERVER_ERROR, BIG_ERROR));
+    }
+
     private static Consumer<ServerResponse> checkResponse(final HttpStatus httpStatus, final String message) {
         return serverResponse -> {
             assertThat(serverResponse.statusCode(), is(httpStatus));
@@ -0,0 +1,71 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.exceptions.GeoLocationNotFoundException;
+import org.learning.by.example.reactive.microservices.exceptions.GetGeoLocationException;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import org.springframework.http.HttpStatus;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.learning.by.example.reactive.microservices.handlers.ErrorLogPolicy.Decision.*;
+
+@UnitTest
+@DisplayName("ErrorLogPolicy Unit Tests")
+class ErrorLogPolicyTests {
+
+    private static final double NEVER_SAMPLE = 0;
+    private static final double ALWAYS_SAMPLE = 1;
+    private static final long SUMMARY_INTERVAL = 3600;
+    private static final String CANT_GET_LOCATION = "cant get location";
+    private static final String BIG_ERROR = "big error";
+
+    @Test
+    void clientErrorTest() {
+        try (final ErrorLogPolicy policy = new ErrorLogPolicy(ALWAYS_SAMPLE, SUMMARY_INTERVAL)) {
+            assertThat(policy.log(GeoLocationNotFoundException.ADDRESS_NOT_FOUND, HttpStatus.NOT_FOUND), is(DEBUG));
+            assertThat(policy.summarize(), is(0));
+        }
+    }
+
+    @Test
+    void aggregateTest() {
+        try (final ErrorLogPolicy policy = new ErrorLogPolicy(NEVER_SAMPLE, SUMMARY_INTERVAL)) {
+            final GetGeoLocationException error = new GetGeoLocationException(CANT_GET_LOCATION);
+
+            assertThat(policy.log(error, HttpStatus.INTERNAL_SERVER_ERROR), is(STACK_TRACE));
+            assertThat(policy.log(error, HttpStatus.INTERNAL_SERVER_ERROR), is(AGGREGATED));
+            assertThat(policy.log(new GetGeoLocationException(CANT_GET_LOCATION), HttpStatus.INTERNAL_SERVER_ERROR),
+                    is(AGGREGATED));
+            assertThat(policy.log(new RuntimeException(BIG_ERROR), HttpStatus.INTERNAL_SERVER_ERROR), is(STACK_TRACE));
+
+            assertThat(policy.summarize(), is(1));
+            assertThat(policy.log(error, HttpStatus.INTERNAL_SERVER_ERROR), is(STACK_TRACE));
+        }
+    }
+
+    @Test
+    void sampleTest() {
+        try (final ErrorLogPolicy policy = new ErrorLogPolicy(ALWAYS_SAMPLE, SUMMARY_INTERVAL)) {
+            final RuntimeException error = new RuntimeException(BIG_ERROR);
+
+            assertThat(policy.log(error, HttpStatus.INTERNAL_SERVER_ERROR), is(STACK_TRACE));
+            assertThat(policy.log(error, HttpStatus.INTERNAL_SERVER_ERROR), is(STACK_TRACE));
+        }
+    }
+
+    @Test
+    void idleErrorsAreForgottenTest() {
+        try (final ErrorLogPolicy policy = new ErrorLogPolicy(NEVER_SAMPLE, SUMMARY_INTERVAL)) {
+            final RuntimeException error = new RuntimeException(BIG_ERROR);
+
+            policy.log(error, HttpStatus.INTERNAL_SERVER_ERROR);
+            policy.log(error, HttpStatus.INTERNAL_SERVER_ERROR);
+
+            assertThat(policy.summarize(), is(1));
+            assertThat(policy.summarize(), is(0));
+            assertThat(policy.log(error, HttpStatus.INTERNAL_SERVER_ERROR), is(STACK_TRACE));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.exceptions.GeoLocationNotFoundException;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import reactor.core.publisher.Mono;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.learning.by.example.reactive.microservices.handlers.PipelineMetrics.*;
+
+@UnitTest
+@DisplayName("PipelineMetrics Unit Tests")
+class PipelineMetricsTests {
+
+    private static final String NOT_FOUND = "not found";
+    private static final String NOT_FOUND_STATUS = "404";
+    private static final String VALUE = "value";
+
+    @Test
+    void timedSuccessTest() {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final PipelineMetrics pipelineMetrics = new PipelineMetrics(registry, ThrowableStatusRegistry.DEFAULT);
+
+        final String result = pipelineMetrics.timed(GEO_LOCATION_STAGE, Mono.just(VALUE)).block();
+
+        assertThat(result, is(VALUE));
+        final Timer timer = registry.find(STAGE_TIMER)
+                .tags(STAGE_TAG, GEO_LOCATION_STAGE, OUTCOME_TAG, SUCCESS, EXCEPTION_TAG, NONE, STATUS_TAG, NONE)
+                .timer();
+        assertThat(timer.count(), is(1L));
+    }
+
+    @Test
+    void timedErrorTest() {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final PipelineMetrics pipelineMetrics = new PipelineMetrics(registry, ThrowableStatusRegistry.DEFAULT);
+
+        pipelineMetrics.timed(SUNRISE_SUNSET_STAGE, Mono.error(new GeoLocationNotFoundException(NOT_FOUND)))
+                .onErrorResume(throwable -> Mono.empty()).block();
+
+        final Timer timer = registry.find(STAGE_TIMER)
+                .tags(STAGE_TAG, SUNRISE_SUNSET_STAGE, OUTCOME_TAG, ERROR,
+                        EXCEPTION_TAG, GeoLocationNotFoundException.class.getSimpleName(), STATUS_TAG, NOT_FOUND_STATUS)
+                .timer();
+        assertThat(timer.count(), is(1L));
+    }
+
+    @Test
+    void timedIsLazyTest() {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final PipelineMetrics pipelineMetrics = new PipelineMetrics(registry, ThrowableStatusRegistry.DEFAULT);
+
+        pipelineMetrics.timed(SERVER_RESPONSE_STAGE, Mono.just(VALUE));
+
+        assertThat(registry.find(STAGE_TIMER).timer(), is(nullValue()));
+    }
+
+    @Test
+    void errorTest() {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final PipelineMetrics pipelineMetrics = new PipelineMetrics(registry, ThrowableStatusRegistry.DEFAULT);
+
+        pipelineMetrics.error(new GeoLocationNotFoundException(NOT_FOUND));
+
+        assertThat(registry.find(ERRORS_COUNTER)
+                .tags(EXCEPTION_TAG, GeoLocationNotFoundException.class.getSimpleName(), STATUS_TAG, NOT_FOUND_STATUS)
+                .counter().count(), is(1.0));
+    }
+}
@@ -0,0 +1,61 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.exceptions.GeoLocationNotFoundException;
+import org.learning.by.example.reactive.microservices.exceptions.PathNotFoundException;
+import org.learning.by.example.reactive.microservices.model.ErrorResponse;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+@UnitTest
+@DisplayName("PreEncodedErrorResponses Unit Tests")
+class PreEncodedErrorResponsesTests {
+
+    private static final String NOT_FOUND = "not found";
+    private static final String BIG_ERROR = "big error";
+    private static final String FIRST = "first";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void constantErrorTest() throws IOException {
+        final PreEncodedErrorResponses responses = new PreEncodedErrorResponses(ThrowableStatusRegistry.DEFAULT,
+                PathNotFoundException.NOT_FOUND);
+
+        final byte[] payload = get(responses, PathNotFoundException.NOT_FOUND);
+
+        assertThat(objectMapper.readValue(payload, ErrorResponse.class).getError(), is(NOT_FOUND));
+        assertThat(get(responses, PathNotFoundException.NOT_FOUND), sameInstance(payload));
+    }
+
+    @Test
+    void sameMessageWithStackTraceTest() {
+        final PreEncodedErrorResponses responses = new PreEncodedErrorResponses(ThrowableStatusRegistry.DEFAULT,
+                PathNotFoundException.NOT_FOUND);
+
+        assertThat(get(responses, new PathNotFoundException(NOT_FOUND)),
+                sameInstance(get(responses, PathNotFoundException.NOT_FOUND)));
+    }
+
+    @Test
+    void dynamicErrorTest() {
+        final PreEncodedErrorResponses responses = new PreEncodedErrorResponses(ThrowableStatusRegistry.DEFAULT,
+                PathNotFoundException.NOT_FOUND);
+
+        assertThat(get(responses, new RuntimeException(BIG_ERROR)), is(nullValue()));
+        assertThat(get(responses, new RuntimeException()), is(nullValue()));
+        assertThat(get(responses, new GeoLocationNotFoundException(FIRST, false)), is(nullValue()));
+    }
+
+    private static byte[] get(final PreEncodedErrorResponses responses, final Throwable error) {
+        return responses.get(ThrowableStatusRegistry.DEFAULT.translate(error));
+    }
+}
@@ -0,0 +1,112 @@
+package org.learning.by.example.reactive.microservices.handlers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.exceptions.CircuitBreakerOpenException;
+import org.learning.by.example.reactive.microservices.exceptions.GeoLocationNotFoundException;
+import org.learning.by.example.reactive.microservices.exceptions.GetGeoLocationException;
+import org.learning.by.example.reactive.microservices.exceptions.GetSunriseSunsetException;
+import org.learning.by.example.reactive.microservices.exceptions.InvalidParametersException;
+import org.learning.by.example.reactive.microservices.exceptions.UpstreamRateLimitedException;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import org.springframework.http.HttpStatus;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@UnitTest
+@DisplayName("ThrowableStatusRegistry Unit Tests")
+class ThrowableStatusRegistryTests {
+
+    private static final String EXCEPTION = "EXCEPTION";
+
+    private static class SubclassedNotFoundException extends GeoLocationNotFoundException {
+        SubclassedNotFoundException(final String message) {
+            super(message);
+        }
+    }
+
+    private static class TooManyRequestsException extends RuntimeException {
+        TooManyRequestsException(final String message) {
+            super(message);
+        }
+    }
+
+    @Test
+    void defaultsTest() {
+        final ThrowableStatusRegistry registry = ThrowableStatusRegistry.DEFAULT;
+
+        assertThat(registry.status(new InvalidParametersException(EXCEPTION)), is(HttpStatus.BAD_REQUEST));
+        assertThat(registry.status(new GeoLocationNotFoundException(EXCEPTION)), is(HttpStatus.NOT_FOUND));
+        assertThat(registry.status(new GetGeoLocationException(EXCEPTION)), is(HttpStatus.INTERNAL_SERVER_ERROR));
+        assertThat(registry.status(new RuntimeException(EXCEPTION)), is(HttpStatus.INTERNAL_SERVER_ERROR));
+    }
+
+    @Test
+    void causeTest() {
+        final ThrowableStatusRegistry registry = ThrowableStatusRegistry.DEFAULT;
+
+        assertThat(registry.status(new GetGeoLocationException(EXCEPTION, InvalidParametersException.MISSING_ADDRESS)),
+                is(HttpStatus.BAD_REQUEST));
+        assertThat(registry.status(new GetGeoLocationException(EXCEPTION, new RuntimeException(EXCEPTION))),
+                is(HttpStatus.INTERNAL_SERVER_ERROR));
+    }
+
+    @Test
+    void rateLimitedTest() {
+        final ThrowableStatusRegistry registry = ThrowableStatusRegistry.DEFAULT;
+
+        assertThat(registry.status(UpstreamRateLimitedException.OVER_QUERY_LIMIT), is(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(registry.status(new GetGeoLocationException(EXCEPTION, UpstreamRateLimitedException.RATE_LIMITED)),
+                is(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(registry.status(new GetSunriseSunsetException(EXCEPTION, UpstreamRateLimitedException.RATE_LIMITED)),
+                is(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    void circuitOpenTest() {
+        final ThrowableStatusRegistry registry = ThrowableStatusRegistry.DEFAULT;
+
+        assertThat(registry.status(CircuitBreakerOpenException.CIRCUIT_OPEN), is(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(registry.status(new GetSunriseSunsetException(EXCEPTION, CircuitBreakerOpenException.CIRCUIT_OPEN)),
+                is(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    void subclassTest() {
+        assertThat(ThrowableStatusRegistry.DEFAULT.status(new SubclassedNotFoundException(EXCEPTION)),
+                is(HttpStatus.NOT_FOUND));
+    }
+
+    @Test
+    void registerTest() {
+        final ThrowableStatusRegistry registry = ThrowableStatusRegistry.defaults()
+                .register(TooManyRequestsException.class, HttpStatus.TOO_MANY_REQUESTS)
+                .registerCause(RuntimeException.class, TooManyRequestsException.class, HttpStatus.SERVICE_UNAVAILABLE)
+                .build();
+
+        assertThat(registry.status(new TooManyRequestsException(EXCEPTION)), is(HttpStatus.TOO_MANY_REQUESTS));
+        assertThat(registry.status(new IllegalStateException(EXCEPTION, new TooManyRequestsException(EXCEPTION))),
+                is(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(ThrowableStatusRegistry.DEFAULT.status(new TooManyRequestsException(EXCEPTION)),
+                is(HttpStatus.INTERNAL_SERVER_ERROR));
+    }
+
+    @Test
+    void defaultStatusTest() {
+        final ThrowableStatusRegistry registry = ThrowableStatusRegistry.builder()
+                .defaultStatus(HttpStatus.BAD_GATEWAY)
+                .build();
+
+        assertThat(registry.status(new RuntimeException(EXCEPTION)), is(HttpStatus.BAD_GATEWAY));
+    }
+
+    @Test
+    void translateTest() {
+        final ThrowableTranslator translation = ThrowableStatusRegistry.DEFAULT
+                .translate(GeoLocationNotFoundException.ADDRESS_NOT_FOUND);
+
+        assertThat(translation.getHttpStatus(), is(HttpStatus.NOT_FOUND));
+        assertThat(translation.getMessage(), is(GeoLocationNotFoundException.ADDRESS_NOT_FOUND.getMessage()));
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.learning.by.example.reactive.microservices.exceptions.GeoLocationNotFoundException;
 import org.learning.by.example.reactive.microservices.handlers.ApiHandler;
 import org.learning.by.example.reactive.microservices.handlers.ErrorHandler;
+import org.learning.by.example.reactive.microservices.handlers.SunEventHandler;
 import org.learning.by.example.reactive.microservices.model.*;
 import org.learning.by.example.reactive.microservices.services.GeoLocationService;
 import org.learning.by.example.reactive.microservices.services.SunriseSunsetService;
@@ -17,6 +18,9 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.HttpStatus;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isEmptyOrNullString;
@@ -30,8 +34,24 @@ import static org.mockito.Mockito.reset;
 class ApiRouterTests extends BasicIntegrationTest {
 
     private static final String LOCATION_PATH = "/api/location";
+    private static final String LOCATIONS_PATH = "/api/locations";
     private static final String ADDRESS_ARG = "{address}";
     private static final String WRONG_PATH = "/api/wrong";
+    private static final String SUN_PATH = "/api/sun";
+    private static final String LAT_PARAM = "lat";
+    private static final String LNG_PARAM = "lng";
+    private static final String INVALID_LAT = "north";
+    private static final String SUN_DAYS_PATH = "/api/sun/days";
+    private static final String FROM_PARAM = "from";
+    private static final String TO_PARAM = "to";
+    private static final String FROM_DATE = "2017-05-21";
+    private static final String TO_DATE = "2017-05-27";
+    private static final int DAYS = 7;
+    private static final String SUN_EVENTS_PATH = "/api/sun/events";
+    private static final String ADDRESS_PARAM = "address";
+    private static final String COORDINATES_PARAM = "coordinates";
+    private static final String EQUATOR_COORDINATES = "0,0";
+    private static final String INVALID_COORDINATES = "0,east";
     private static final String GOOGLE_ADDRESS = "1600 Amphitheatre Parkway, Mountain View, CA";
     private static final double GOOGLE_LAT = 37.4224082;
     private static final double GOOGLE_LNG = -122.0856086;
@@ -48,6 +68,9 @@ class ApiRouterTests extends BasicIntegrationTest {
     @Autowired
     private ApiHandler apiHandler;
 
+    @Autowired
+    private SunEventHandler sunEventHandler;
+
     @Autowired
     private ErrorHandler errorHandler;
 
@@ -60,7 +83,7 @@ class ApiRouterTests extends BasicIntegrationTest {
 
     @BeforeEach
     void setup() {
-        super.bindToRouterFunction(ApiRouter.doRoute(apiHandler, errorHandler));
+        super.bindToRouterFunction(ApiRouter.doRoute(apiHandler, sunEventHandler, errorHandler));
     }
 
     @BeforeAll
@@ -146,6 +169,47 @@ class ApiRouterTests extends BasicIntegrationTest {
         reset(sunriseSunsetService);
     }
 
+    @Test
+    void postLocationsTest() {
+
+        doReturn(GOOGLE_LOCATION).when(geoLocationService).fromAddress(any());
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any());
+
+        final List<BulkLocationResponse> locations = postStream(
+                builder -> builder.path(LOCATIONS_PATH).build(),
+                Arrays.asList(new LocationRequest(GOOGLE_ADDRESS), new LocationRequest(GOOGLE_ADDRESS)),
+                BulkLocationResponse.class);
+
+        assertThat(locations.size(), is(2));
+        locations.forEach(location -> {
+            assertThat(location.getStatus(), is(HttpStatus.OK.value()));
+            assertThat(location.getLocation().getGeographicCoordinates().getLatitude(), is(GOOGLE_LAT));
+            assertThat(location.getLocation().getGeographicCoordinates().getLongitude(), is(GOOGLE_LNG));
+        });
+
+        reset(geoLocationService);
+        reset(sunriseSunsetService);
+    }
+
+    @Test
+    void postLocationsNotFoundTest() {
+
+        doReturn(LOCATION_NOT_FOUND).when(geoLocationService).fromAddress(any());
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any());
+
+        final List<BulkLocationResponse> locations = postStream(
+                builder -> builder.path(LOCATIONS_PATH).build(),
+                Arrays.asList(new LocationRequest(GOOGLE_ADDRESS)),
+                BulkLocationResponse.class);
+
+        assertThat(locations.size(), is(1));
+        assertThat(locations.get(0).getStatus(), is(HttpStatus.NOT_FOUND.value()));
+        assertThat(locations.get(0).getError().getError(), is(NOT_FOUND));
+
+        reset(geoLocationService);
+        reset(sunriseSunsetService);
+    }
+
     @Test
     void getLocationNotFoundTest() {
 
@@ -213,4 +277,95 @@ class ApiRouterTests extends BasicIntegrationTest {
         reset(geoLocationService);
         reset(sunriseSunsetService);
     }
+
+    @Test
+    void getSunriseSunsetTest() {
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any());
+
+        final LocationResponse response = get(
+                builder -> builder.path(SUN_PATH).queryParam(LAT_PARAM, GOOGLE_LAT).queryParam(LNG_PARAM, GOOGLE_LNG).build(),
+                LocationResponse.class);
+
+        assertThat(response.getGeographicCoordinates().getLatitude(), is(GOOGLE_LAT));
+        assertThat(response.getGeographicCoordinates().getLongitude(), is(GOOGLE_LNG));
+        assertThat(response.getSunriseSunset().getSunrise(), is(SUNRISE_TIME));
+        assertThat(response.getSunriseSunset().getSunset(), is(SUNSET_TIME));
+
+        reset(sunriseSunsetService);
+    }
+
+    @Test
+    void getSunriseSunsetInvalidCoordinatesTest() {
+        final ErrorResponse response = get(
+                builder -> builder.path(SUN_PATH).queryParam(LAT_PARAM, INVALID_LAT).queryParam(LNG_PARAM, GOOGLE_LNG).build(),
+                HttpStatus.BAD_REQUEST,
+                ErrorResponse.class);
+
+        assertThat(response.getError(), not(isEmptyOrNullString()));
+    }
+
+    @Test
+    void getSunriseSunsetDaysTest() {
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any(), any());
+
+        final List<DailySunriseSunset> days = getStream(
+                builder -> builder.path(SUN_DAYS_PATH).queryParam(LAT_PARAM, GOOGLE_LAT).queryParam(LNG_PARAM, GOOGLE_LNG)
+                        .queryParam(FROM_PARAM, FROM_DATE).queryParam(TO_PARAM, TO_DATE).build(),
+                DailySunriseSunset.class);
+
+        assertThat(days.size(), is(DAYS));
+        assertThat(days.get(0).getDate(), is(FROM_DATE));
+        assertThat(days.get(DAYS - 1).getDate(), is(TO_DATE));
+        assertThat(days.get(0).getSunriseSunset().getSunrise(), is(SUNRISE_TIME));
+
+        reset(sunriseSunsetService);
+    }
+
+    @Test
+    void getSunriseSunsetDaysInvalidRangeTest() {
+        final ErrorResponse response = get(
+                builder -> builder.path(SUN_DAYS_PATH).queryParam(LAT_PARAM, GOOGLE_LAT).queryParam(LNG_PARAM, GOOGLE_LNG)
+                        .queryParam(FROM_PARAM, TO_DATE).queryParam(TO_PARAM, FROM_DATE).build(),
+                HttpStatus.BAD_REQUEST,
+                ErrorResponse.class);
+
+        assertThat(response.getError(), not(isEmptyOrNullString()));
+    }
+
+    @Test
+    void getSunEventsTest() {
+        doReturn(GOOGLE_LOCATION).when(geoLocationService).fromAddress(any());
+
+        final List<SunEvent> events = getEvents(
+                builder -> builder.path(SUN_EVENTS_PATH).queryParam(COORDINATES_PARAM, EQUATOR_COORDINATES)
+                        .queryParam(ADDRESS_PARAM, GOOGLE_ADDRESS).build(),
+                SunEvent.class, 2);
+
+        assertThat(events.size(), is(2));
+        assertThat(events.stream().allMatch(SunEvent::isUpcoming), is(true));
+        assertThat(events.stream().anyMatch(event -> event.getLocation().equals(EQUATOR_COORDINATES)), is(true));
+        assertThat(events.stream().anyMatch(event -> event.getLocation().equals(GOOGLE_ADDRESS)), is(true));
+
+        reset(geoLocationService);
+    }
+
+    @Test
+    void getSunEventsMissingLocationsTest() {
+        final ErrorResponse response = get(
+                builder -> builder.path(SUN_EVENTS_PATH).build(),
+                HttpStatus.BAD_REQUEST,
+                ErrorResponse.class);
+
+        assertThat(response.getError(), not(isEmptyOrNullString()));
+    }
+
+    @Test
+    void getSunEventsInvalidCoordinatesTest() {
+        final ErrorResponse response = get(
+                builder -> builder.path(SUN_EVENTS_PATH).queryParam(COORDINATES_PARAM, INVALID_COORDINATES).build(),
+                HttpStatus.BAD_REQUEST,
+                ErrorResponse.class);
+
+        assertThat(response.getError(), not(isEmptyOrNullString()));
+    }
 }
@@ -0,0 +1,43 @@
+package org.learning.by.example.reactive.microservices.routers;
+
+import io.prometheus.client.exporter.common.TextFormat;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.handlers.MetricsHandler;
+import org.learning.by.example.reactive.microservices.test.BasicIntegrationTest;
+import org.learning.by.example.reactive.microservices.test.tags.IntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+@IntegrationTest
+@DisplayName("MetricsRouter Integration Tests")
+class MetricsRouterTests extends BasicIntegrationTest {
+
+    private static final String METRICS_PATH = "/metrics";
+    private static final String UPSTREAM_ACTIVE = "upstream_connections_active";
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType(TextFormat.CONTENT_TYPE_004);
+
+    @Autowired
+    private MetricsHandler metricsHandler;
+
+    @BeforeEach
+    void setup() {
+        super.bindToRouterFunction(MetricsRouter.doRoute(metricsHandler));
+    }
+
+    @BeforeAll
+    static void setupAll() {
+        final MetricsRouter metricsRouter = new MetricsRouter();
+    }
+
+    @Test
+    void scrapeTest() {
+        final String result = get(builder -> builder.path(METRICS_PATH).build(), PROMETHEUS_TEXT);
+        assertThat(result, containsString(UPSTREAM_ACTIVE));
+    }
+}
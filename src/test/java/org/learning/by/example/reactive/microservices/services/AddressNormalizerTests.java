@@ -0,0 +1,66 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+
+@UnitTest
+@DisplayName("AddressNormalizer Unit Tests")
+class AddressNormalizerTests {
+
+    private static final String GOOGLE_ADDRESS = "1600 Amphitheatre Parkway, Mountain View, CA";
+    private static final String GOOGLE_ADDRESS_KEY = "1600 amphitheatre parkway, mountain view, ca";
+    private static final String GOOGLE_ADDRESS_VARIANT = "  1600 amphitheatre   PARKWAY, Mountain View, CA ";
+    private static final String GOOGLE_ADDRESS_ABBREVIATED = "1600 Amphitheatre Pkwy., Mountain View , CA";
+    private static final String GOOGLE_ADDRESS_FULL_WIDTH = "１６００ Ａｍｐｈｉｔｈｅａｔｒｅ Ｐａｒｋｗａｙ, Mountain View, CA";
+    private static final String SAINT_ADDRESS = "St. Louis Ave, St Louis, MO";
+    private static final String SAINT_ADDRESS_KEY = "st. louis avenue, st louis, mo";
+    private static final String REGION_ADDRESS = "Hartford, CT";
+    private static final String REGION_EXPANDED_ADDRESS = "Hartford, Court";
+    private static final String INNER_SUFFIX_ADDRESS = "Mount St Helens, WA";
+    private static final String INNER_SUFFIX_EXPANDED_ADDRESS = "Mount Street Helens, WA";
+    private static final String LITERAL_ADDRESS = "100% Plaza, C+ Street, Springfield";
+    private static final String LITERAL_ADDRESS_KEY = "100% plaza, c+ street, springfield";
+    private static final String BLANK_ADDRESS = " \t ";
+
+    @Test
+    void normalizeTest() {
+        assertThat(AddressNormalizer.normalize(GOOGLE_ADDRESS), is(GOOGLE_ADDRESS_KEY));
+        assertThat(AddressNormalizer.normalize(GOOGLE_ADDRESS_VARIANT), is(GOOGLE_ADDRESS_KEY));
+    }
+
+    @Test
+    void normalizeAbbreviationsTest() {
+        assertThat(AddressNormalizer.normalize(GOOGLE_ADDRESS_ABBREVIATED), is(GOOGLE_ADDRESS_KEY));
+        assertThat(AddressNormalizer.normalize(SAINT_ADDRESS), is(SAINT_ADDRESS_KEY));
+    }
+
+    @Test
+    void normalizeStreetSuffixOnlyTest() {
+        assertThat(AddressNormalizer.normalize(REGION_ADDRESS),
+                is(not(AddressNormalizer.normalize(REGION_EXPANDED_ADDRESS))));
+        assertThat(AddressNormalizer.normalize(INNER_SUFFIX_ADDRESS),
+                is(not(AddressNormalizer.normalize(INNER_SUFFIX_EXPANDED_ADDRESS))));
+    }
+
+    @Test
+    void normalizeNotDecodedTest() {
+        assertThat(AddressNormalizer.normalize(LITERAL_ADDRESS), is(LITERAL_ADDRESS_KEY));
+    }
+
+    @Test
+    void normalizeUnicodeTest() {
+        assertThat(AddressNormalizer.normalize(GOOGLE_ADDRESS_FULL_WIDTH), is(GOOGLE_ADDRESS_KEY));
+    }
+
+    @Test
+    void normalizeCanonicalTest() {
+        assertThat(AddressNormalizer.normalize(GOOGLE_ADDRESS_KEY), is(sameInstance(GOOGLE_ADDRESS_KEY)));
+        assertThat(AddressNormalizer.normalize(BLANK_ADDRESS), is(""));
+    }
+}
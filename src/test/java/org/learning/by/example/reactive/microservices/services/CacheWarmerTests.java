@@ -0,0 +1,124 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.exceptions.GeoLocationNotFoundException;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.learning.by.example.reactive.microservices.model.SunriseSunset;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@UnitTest
+@DisplayName("CacheWarmer Unit Tests")
+class CacheWarmerTests {
+
+    private static final String GOOGLE_ADDRESS = "1600 Amphitheatre Parkway, Mountain View, CA";
+    private static final String OTHER_ADDRESS = "Trafalgar Square, London";
+    private static final String COMMENT = "# seed addresses";
+    private static final double GOOGLE_LAT = 37.4224082;
+    private static final double GOOGLE_LNG = -122.0856086;
+    private static final String SUNRISE_TIME = "12:55:17 PM";
+    private static final String SUNSET_TIME = "3:14:28 AM";
+    private static final String NOT_FOUND = "not found";
+    private static final int CONCURRENCY = 2;
+    private static final int RATE_PER_SECOND = 1000;
+    private static final int NO_RATE = 0;
+    private static final double READY_FRACTION = 0.5;
+
+    private static final Mono<GeographicCoordinates> GOOGLE_LOCATION = Mono.just(new GeographicCoordinates(GOOGLE_LAT, GOOGLE_LNG));
+    private static final Mono<SunriseSunset> SUNRISE_SUNSET = Mono.just(new SunriseSunset(SUNRISE_TIME, SUNSET_TIME));
+    private static final Mono<GeographicCoordinates> LOCATION_NOT_FOUND = Mono.error(new GeoLocationNotFoundException(NOT_FOUND));
+
+    private GeoLocationService geoLocationService;
+    private SunriseSunsetService sunriseSunsetService;
+    private Path seedFile;
+
+    @BeforeEach
+    void setup() throws IOException {
+        geoLocationService = mock(GeoLocationService.class);
+        sunriseSunsetService = mock(SunriseSunsetService.class);
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any());
+        seedFile = Files.createTempFile("warmup", ".txt");
+        Files.write(seedFile, Arrays.asList(COMMENT, GOOGLE_ADDRESS, "", OTHER_ADDRESS, GOOGLE_ADDRESS));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(seedFile);
+    }
+
+    private CacheWarmer cacheWarmer(final Path seedFile) {
+        return new CacheWarmer(geoLocationService, sunriseSunsetService, seedFile, CONCURRENCY, RATE_PER_SECOND,
+                READY_FRACTION);
+    }
+
+    @Test
+    void warmTest() {
+        doReturn(GOOGLE_LOCATION).when(geoLocationService).fromAddress(any());
+        final CacheWarmer cacheWarmer = cacheWarmer(seedFile);
+
+        assertThat(cacheWarmer.isReady(), is(false));
+
+        cacheWarmer.warm().block();
+
+        assertThat(cacheWarmer.isReady(), is(true));
+        assertThat(cacheWarmer.getWarmed(), is(2));
+        assertThat(cacheWarmer.getFailed(), is(0));
+        verify(geoLocationService, times(2)).fromAddress(any());
+        verify(sunriseSunsetService, times(2)).fromGeographicCoordinates(any());
+    }
+
+    @Test
+    void warmWithErrorsTest() {
+        doReturn(GOOGLE_LOCATION, LOCATION_NOT_FOUND).when(geoLocationService).fromAddress(any());
+        final CacheWarmer cacheWarmer = cacheWarmer(seedFile);
+
+        cacheWarmer.warm().block();
+
+        assertThat(cacheWarmer.isReady(), is(true));
+        assertThat(cacheWarmer.getWarmed(), is(1));
+        assertThat(cacheWarmer.getFailed(), is(1));
+    }
+
+    @Test
+    void warmFailedTest() {
+        doReturn(LOCATION_NOT_FOUND).when(geoLocationService).fromAddress(any());
+        final CacheWarmer cacheWarmer = cacheWarmer(seedFile);
+
+        cacheWarmer.warm().block();
+
+        assertThat(cacheWarmer.isReady(), is(false));
+        assertThat(cacheWarmer.getWarmed(), is(0));
+        assertThat(cacheWarmer.getFailed(), is(2));
+    }
+
+    @Test
+    void invalidRateTest() {
+        assertThrows(IllegalArgumentException.class, () -> new CacheWarmer(geoLocationService, sunriseSunsetService,
+                seedFile, CONCURRENCY, NO_RATE, READY_FRACTION));
+    }
+
+    @Test
+    void missingSeedFileTest() {
+        final CacheWarmer cacheWarmer = cacheWarmer(seedFile.resolveSibling(seedFile.getFileName() + ".missing"));
+
+        cacheWarmer.warm().block();
+
+        assertThat(cacheWarmer.isReady(), is(true));
+        assertThat(cacheWarmer.getWarmed(), is(0));
+        verify(geoLocationService, never()).fromAddress(any());
+    }
+}
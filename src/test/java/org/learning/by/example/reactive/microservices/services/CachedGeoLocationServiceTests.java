@@ -0,0 +1,136 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.exceptions.GeoLocationNotFoundException;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@UnitTest
+@DisplayName("CachedGeoLocationService Unit Tests")
+class CachedGeoLocationServiceTests {
+
+    private static final String GOOGLE_ADDRESS = "1600 Amphitheatre Parkway, Mountain View, CA";
+    private static final String GOOGLE_ADDRESS_VARIANT = "  1600 amphitheatre   PARKWAY, Mountain View, CA ";
+    private static final double GOOGLE_LAT = 37.4224082;
+    private static final double GOOGLE_LNG = -122.0856086;
+    private static final String NOT_FOUND = "not found";
+    private static final long MAXIMUM_SIZE = 100;
+    private static final long TIME_TO_LIVE = 60;
+    private static final long HARD_TIME_TO_LIVE = 600;
+    private static final long NOW = 0;
+    private static final long STALE = TimeUnit.SECONDS.toMillis(TIME_TO_LIVE);
+    private static final double OTHER_LAT = 51.508039;
+    private static final double OTHER_LNG = -0.128069;
+
+    private static final Mono<GeographicCoordinates> GOOGLE_LOCATION = Mono.just(new GeographicCoordinates(GOOGLE_LAT, GOOGLE_LNG));
+    private static final Mono<GeographicCoordinates> OTHER_LOCATION = Mono.just(new GeographicCoordinates(OTHER_LAT, OTHER_LNG));
+    private static final Mono<GeographicCoordinates> LOCATION_NOT_FOUND = Mono.error(new GeoLocationNotFoundException(NOT_FOUND));
+
+    private GeoLocationService geoLocationService;
+    private Clock clock;
+    private CachedGeoLocationService cachedGeoLocationService;
+
+    @BeforeEach
+    void setup() {
+        geoLocationService = mock(GeoLocationService.class);
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(NOW);
+        cachedGeoLocationService = new CachedGeoLocationService(geoLocationService, MAXIMUM_SIZE, TIME_TO_LIVE,
+                HARD_TIME_TO_LIVE, clock);
+    }
+
+    @Test
+    void fromAddressCachedTest() {
+        doReturn(GOOGLE_LOCATION).when(geoLocationService).fromAddress(any());
+
+        final GeographicCoordinates first = Mono.just(GOOGLE_ADDRESS).transform(cachedGeoLocationService::fromAddress).block();
+        final GeographicCoordinates second = Mono.just(GOOGLE_ADDRESS).transform(cachedGeoLocationService::fromAddress).block();
+
+        assertThat(first, is(notNullValue()));
+        assertThat(second, is(first));
+        assertThat(second.getLatitude(), is(GOOGLE_LAT));
+        assertThat(second.getLongitude(), is(GOOGLE_LNG));
+
+        verify(geoLocationService, times(1)).fromAddress(any());
+        assertThat(cachedGeoLocationService.stats().hitCount(), is(1L));
+        assertThat(cachedGeoLocationService.stats().missCount(), is(1L));
+    }
+
+    @Test
+    void fromAddressVariantCachedTest() {
+        doReturn(GOOGLE_LOCATION).when(geoLocationService).fromAddress(any());
+
+        Mono.just(GOOGLE_ADDRESS).transform(cachedGeoLocationService::fromAddress).block();
+        final GeographicCoordinates variant = Mono.just(GOOGLE_ADDRESS_VARIANT)
+                .transform(cachedGeoLocationService::fromAddress).block();
+
+        assertThat(variant, is(notNullValue()));
+        verify(geoLocationService, times(1)).fromAddress(any());
+    }
+
+    @Test
+    void fromAddressErrorNotCachedTest() {
+        doReturn(LOCATION_NOT_FOUND).when(geoLocationService).fromAddress(any());
+
+        final GeographicCoordinates geographicCoordinates = Mono.just(GOOGLE_ADDRESS)
+                .transform(cachedGeoLocationService::fromAddress)
+                .onErrorResume(throwable -> {
+                    assertThat(throwable, instanceOf(GeoLocationNotFoundException.class));
+                    return Mono.empty();
+                }).block();
+
+        assertThat(geographicCoordinates, is(nullValue()));
+
+        doReturn(GOOGLE_LOCATION).when(geoLocationService).fromAddress(any());
+
+        final GeographicCoordinates retry = Mono.just(GOOGLE_ADDRESS).transform(cachedGeoLocationService::fromAddress).block();
+
+        assertThat(retry, is(notNullValue()));
+        verify(geoLocationService, times(2)).fromAddress(any());
+    }
+
+    @Test
+    void fromAddressStaleWhileRevalidateTest() {
+        doReturn(GOOGLE_LOCATION).when(geoLocationService).fromAddress(any());
+        Mono.just(GOOGLE_ADDRESS).transform(cachedGeoLocationService::fromAddress).block();
+
+        when(clock.millis()).thenReturn(STALE);
+        doReturn(OTHER_LOCATION).when(geoLocationService).fromAddress(any());
+
+        final GeographicCoordinates stale = Mono.just(GOOGLE_ADDRESS).transform(cachedGeoLocationService::fromAddress).block();
+        final GeographicCoordinates refreshed = Mono.just(GOOGLE_ADDRESS).transform(cachedGeoLocationService::fromAddress).block();
+
+        assertThat(stale.getLatitude(), is(GOOGLE_LAT));
+        assertThat(refreshed.getLatitude(), is(OTHER_LAT));
+        verify(geoLocationService, times(2)).fromAddress(any());
+    }
+
+    @Test
+    void fromAddressStaleIfErrorTest() {
+        doReturn(GOOGLE_LOCATION).when(geoLocationService).fromAddress(any());
+        Mono.just(GOOGLE_ADDRESS).transform(cachedGeoLocationService::fromAddress).block();
+
+        when(clock.millis()).thenReturn(STALE);
+        doReturn(LOCATION_NOT_FOUND).when(geoLocationService).fromAddress(any());
+
+        final GeographicCoordinates first = Mono.just(GOOGLE_ADDRESS).transform(cachedGeoLocationService::fromAddress).block();
+        final GeographicCoordinates second = Mono.just(GOOGLE_ADDRESS).transform(cachedGeoLocationService::fromAddress).block();
+
+        assertThat(first.getLatitude(), is(GOOGLE_LAT));
+        assertThat(second.getLatitude(), is(GOOGLE_LAT));
+    }
+}
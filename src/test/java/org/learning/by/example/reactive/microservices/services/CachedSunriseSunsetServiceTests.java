@@ -0,0 +1,96 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.learning.by.example.reactive.microservices.model.SunriseSunset;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@UnitTest
+@DisplayName("CachedSunriseSunsetService Unit Tests")
+class CachedSunriseSunsetServiceTests {
+
+    private static final String SUNRISE_TIME = "2017-05-21T12:53:56+00:00";
+    private static final String SUNSET_TIME = "2017-05-22T03:16:05+00:00";
+    private static final Mono<GeographicCoordinates> GOOGLE_LOCATION_MONO = Mono.just(new GeographicCoordinates(37.4224082, -122.0856086));
+    private static final Mono<GeographicCoordinates> NEARBY_LOCATION_MONO = Mono.just(new GeographicCoordinates(37.4201, -122.0901));
+    private static final Mono<GeographicCoordinates> FAR_LOCATION_MONO = Mono.just(new GeographicCoordinates(51.508039, -0.128069));
+    private static final Mono<SunriseSunset> SUNRISE_SUNSET = Mono.just(new SunriseSunset(SUNRISE_TIME, SUNSET_TIME));
+    private static final Instant TODAY = Instant.parse("2017-05-21T23:59:00Z");
+    private static final Instant TOMORROW = Instant.parse("2017-05-22T00:01:00Z");
+    private static final LocalDate FIXTURE_DATE = LocalDate.of(2017, 12, 21);
+    private static final long MAXIMUM_SIZE = 100;
+    private static final int PRECISION = 5;
+    private static final long TIME_TO_LIVE = 21600;
+    private static final long HARD_TIME_TO_LIVE = 86400;
+
+    private SunriseSunsetService sunriseSunsetService;
+    private Clock clock;
+    private CachedSunriseSunsetService cachedSunriseSunsetService;
+
+    @BeforeEach
+    void setup() {
+        sunriseSunsetService = mock(SunriseSunsetService.class);
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any());
+        clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(TODAY);
+        cachedSunriseSunsetService = new CachedSunriseSunsetService(sunriseSunsetService, MAXIMUM_SIZE, PRECISION,
+                TIME_TO_LIVE, HARD_TIME_TO_LIVE, clock);
+    }
+
+    @Test
+    void fromLocationSameCellCachedTest() {
+        final SunriseSunset first = GOOGLE_LOCATION_MONO.transform(cachedSunriseSunsetService::fromGeographicCoordinates).block();
+        final SunriseSunset second = NEARBY_LOCATION_MONO.transform(cachedSunriseSunsetService::fromGeographicCoordinates).block();
+
+        assertThat(first, is(notNullValue()));
+        assertThat(second, is(first));
+
+        verify(sunriseSunsetService, times(1)).fromGeographicCoordinates(any());
+        assertThat(cachedSunriseSunsetService.stats().hitCount(), is(1L));
+    }
+
+    @Test
+    void fromLocationOtherCellNotCachedTest() {
+        GOOGLE_LOCATION_MONO.transform(cachedSunriseSunsetService::fromGeographicCoordinates).block();
+        FAR_LOCATION_MONO.transform(cachedSunriseSunsetService::fromGeographicCoordinates).block();
+
+        verify(sunriseSunsetService, times(2)).fromGeographicCoordinates(any());
+    }
+
+    @Test
+    void fromLocationDayRolloverTest() {
+        GOOGLE_LOCATION_MONO.transform(cachedSunriseSunsetService::fromGeographicCoordinates).block();
+        when(clock.instant()).thenReturn(TOMORROW);
+        GOOGLE_LOCATION_MONO.transform(cachedSunriseSunsetService::fromGeographicCoordinates).block();
+
+        verify(sunriseSunsetService, times(2)).fromGeographicCoordinates(any());
+    }
+
+    @Test
+    void fromLocationOnDateCachedTest() {
+        doReturn(SUNRISE_SUNSET).when(sunriseSunsetService).fromGeographicCoordinates(any(), any());
+
+        cachedSunriseSunsetService.fromGeographicCoordinates(GOOGLE_LOCATION_MONO, FIXTURE_DATE).block();
+        cachedSunriseSunsetService.fromGeographicCoordinates(NEARBY_LOCATION_MONO, FIXTURE_DATE).block();
+        cachedSunriseSunsetService.fromGeographicCoordinates(GOOGLE_LOCATION_MONO, FIXTURE_DATE.plusDays(1)).block();
+
+        verify(sunriseSunsetService, times(1)).fromGeographicCoordinates(any(), eq(FIXTURE_DATE));
+        verify(sunriseSunsetService, times(1)).fromGeographicCoordinates(any(), eq(FIXTURE_DATE.plusDays(1)));
+        verify(sunriseSunsetService, never()).fromGeographicCoordinates(any());
+    }
+}
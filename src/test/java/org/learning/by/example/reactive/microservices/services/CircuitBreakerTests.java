@@ -0,0 +1,212 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.exceptions.CircuitBreakerOpenException;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@UnitTest
+@DisplayName("CircuitBreaker Unit Tests")
+class CircuitBreakerTests {
+
+    private static final String NAME = "test";
+    private static final int WINDOW_SIZE = 10;
+    private static final int MINIMUM_CALLS = 4;
+    private static final double FAILURE_RATE_THRESHOLD = 0.5;
+    private static final long SLOW_CALL_DURATION = 1000;
+    private static final long CALL_TIMEOUT = 50;
+    private static final double SLOW_CALL_RATE_THRESHOLD = 0.75;
+    private static final long OPEN_DURATION = 30;
+    private static final int HALF_OPEN_CALLS = 2;
+    private static final long FAST = 10;
+    private static final long OPENED = TimeUnit.SECONDS.toMillis(OPEN_DURATION);
+    private static final String VALUE = "value";
+    private static final String BIG_ERROR = "big error";
+
+    private Clock clock;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setup() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        circuitBreaker = CircuitBreaker.builder(NAME)
+                .windowSize(WINDOW_SIZE)
+                .minimumCalls(MINIMUM_CALLS)
+                .failureRateThreshold(FAILURE_RATE_THRESHOLD)
+                .slowCallDuration(SLOW_CALL_DURATION)
+                .callTimeout(CALL_TIMEOUT)
+                .slowCallRateThreshold(SLOW_CALL_RATE_THRESHOLD)
+                .openDuration(OPEN_DURATION)
+                .halfOpenCalls(HALF_OPEN_CALLS)
+                .clock(clock)
+                .build();
+    }
+
+    private void calls(final int count, final long duration, final boolean failed) {
+        for (int i = 0; i < count; i++) {
+            circuitBreaker.record(circuitBreaker.acquire(), duration, failed);
+        }
+    }
+
+    private void open() {
+        calls(MINIMUM_CALLS, FAST, true);
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.OPEN));
+    }
+
+    @Test
+    void minimumCallsTest() {
+        calls(MINIMUM_CALLS - 1, FAST, true);
+
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    void failureRateTest() {
+        calls(MINIMUM_CALLS, FAST, false);
+        calls(MINIMUM_CALLS - 1, FAST, true);
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.CLOSED));
+
+        calls(1, FAST, true);
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.OPEN));
+        assertThat(circuitBreaker.acquire(), is(CircuitBreaker.REJECTED));
+    }
+
+    @Test
+    void rollingWindowTest() {
+        calls(WINDOW_SIZE, FAST, false);
+        calls(MINIMUM_CALLS, FAST, true);
+        calls(WINDOW_SIZE, FAST, false);
+        assertThat(circuitBreaker.getFailureRate(), is(0.0));
+
+        calls(MINIMUM_CALLS, FAST, true);
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.CLOSED));
+        assertThat(circuitBreaker.getFailureRate(), is((double) MINIMUM_CALLS / WINDOW_SIZE));
+    }
+
+    @Test
+    void slowCallRateTest() {
+        calls(MINIMUM_CALLS, SLOW_CALL_DURATION, false);
+
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.OPEN));
+    }
+
+    @Test
+    void halfOpenCloseTest() {
+        open();
+        when(clock.millis()).thenReturn(OPENED);
+
+        final long first = circuitBreaker.acquire();
+        final long second = circuitBreaker.acquire();
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.HALF_OPEN));
+        assertThat(first, is(not(CircuitBreaker.REJECTED)));
+        assertThat(circuitBreaker.acquire(), is(CircuitBreaker.REJECTED));
+
+        circuitBreaker.record(first, FAST, false);
+        circuitBreaker.record(second, FAST, false);
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.CLOSED));
+        assertThat(circuitBreaker.getFailureRate(), is(0.0));
+    }
+
+    @Test
+    void halfOpenReopenTest() {
+        open();
+        when(clock.millis()).thenReturn(OPENED);
+
+        calls(HALF_OPEN_CALLS, FAST, true);
+
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.OPEN));
+        assertThat(circuitBreaker.acquire(), is(CircuitBreaker.REJECTED));
+    }
+
+    @Test
+    void halfOpenReleaseTest() {
+        open();
+        when(clock.millis()).thenReturn(OPENED);
+
+        final long first = circuitBreaker.acquire();
+        circuitBreaker.acquire();
+        circuitBreaker.release(first);
+
+        assertThat(circuitBreaker.acquire(), is(not(CircuitBreaker.REJECTED)));
+    }
+
+    @Test
+    void staleResultTest() {
+        final long permit = circuitBreaker.acquire();
+        open();
+
+        circuitBreaker.record(permit, FAST, false);
+        when(clock.millis()).thenReturn(OPENED);
+        calls(HALF_OPEN_CALLS - 1, FAST, false);
+
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.HALF_OPEN));
+    }
+
+    @Test
+    void hungProbeTest() {
+        open();
+        when(clock.millis()).thenReturn(OPENED);
+
+        for (int i = 0; i < HALF_OPEN_CALLS; i++) {
+            final String result = circuitBreaker.protect(Mono.<String>never())
+                    .onErrorResume(throwable -> {
+                        assertThat(throwable, instanceOf(TimeoutException.class));
+                        return Mono.empty();
+                    }).block();
+            assertThat(result, is(nullValue()));
+        }
+
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.OPEN));
+
+        when(clock.millis()).thenReturn(2 * OPENED);
+        assertThat(circuitBreaker.acquire(), is(not(CircuitBreaker.REJECTED)));
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.HALF_OPEN));
+    }
+
+    @Test
+    void protectTest() {
+        assertThat(circuitBreaker.protect(Mono.just(VALUE)).block(), is(VALUE));
+
+        for (int i = 0; i < MINIMUM_CALLS; i++) {
+            circuitBreaker.protect(Mono.error(new RuntimeException(BIG_ERROR)))
+                    .onErrorResume(throwable -> Mono.empty()).block();
+        }
+
+        final String result = circuitBreaker.protect(Mono.just(VALUE))
+                .onErrorResume(throwable -> {
+                    assertThat(throwable, is(CircuitBreakerOpenException.CIRCUIT_OPEN));
+                    return Mono.empty();
+                }).block();
+
+        assertThat(result, is(nullValue()));
+    }
+
+    @Test
+    void disabledTest() {
+        final Mono<String> mono = Mono.just(VALUE);
+
+        assertThat(CircuitBreaker.DISABLED.protect(mono), is(mono));
+    }
+
+    @Test
+    void invalidConfigurationTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CircuitBreaker.builder(NAME).windowSize(MINIMUM_CALLS).minimumCalls(WINDOW_SIZE).build());
+    }
+}
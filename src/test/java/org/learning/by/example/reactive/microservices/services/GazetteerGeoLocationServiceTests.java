@@ -0,0 +1,158 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.exceptions.GeoLocationNotFoundException;
+import org.learning.by.example.reactive.microservices.exceptions.InvalidParametersException;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import reactor.core.publisher.Mono;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@UnitTest
+@DisplayName("GazetteerGeoLocationService Unit Tests")
+class GazetteerGeoLocationServiceTests {
+
+    private static final String CITIES = "/gazetteer/cities.tsv";
+    private static final String POSTAL_CODES = "/gazetteer/postal_codes.tsv";
+    private static final String MOUNTAIN_VIEW = "Mountain View";
+    private static final String MOUNTAIN_VIEW_STATE = "mountain view, ca";
+    private static final String MOUNTAIN_VIEW_COUNTRY = "Mountain View, CA, USA";
+    private static final double MOUNTAIN_VIEW_LAT = 37.38605;
+    private static final double MOUNTAIN_VIEW_LNG = -122.08385;
+    private static final String LONDON = "London";
+    private static final String LONDON_CANADA = "London, CA";
+    private static final double LONDON_LAT = 51.50853;
+    private static final double LONDON_CANADA_LAT = 42.98339;
+    private static final String ZARAGOZA_PREFIX = "Zarag";
+    private static final String POSTAL_CODE = "94043";
+    private static final double POSTAL_CODE_LAT = 37.4056;
+    private static final String GOOGLE_ADDRESS = "1600 Amphitheatre Parkway, Mountain View, CA";
+    private static final double GOOGLE_LAT = 37.4224082;
+    private static final double GOOGLE_LNG = -122.0856086;
+    private static final String PARIS_TEXAS = "Paris, TX";
+    private static final String PARIS_TEXAS_COUNTRY = "Paris, Texas, US";
+    private static final String PARIS_TEXAS_UNQUALIFIED = "Paris, Texas";
+    private static final double PARIS_TEXAS_LAT = 33.66094;
+    private static final int CITIES_KEYS = 19;
+
+    private static Path resource(final String path) {
+        try {
+            return Paths.get(GazetteerGeoLocationServiceTests.class.getResource(path).toURI());
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static GeographicCoordinates locate(final GeoLocationService service, final String address) {
+        return Mono.just(address).transform(service::fromAddress).block();
+    }
+
+    @Test
+    void loadTest() {
+        final GazetteerGeoLocationService service = new GazetteerGeoLocationService(resource(CITIES), null);
+
+        assertThat(service.size(), is(CITIES_KEYS));
+    }
+
+    @Test
+    void exactTest() {
+        final GazetteerGeoLocationService service = new GazetteerGeoLocationService(resource(CITIES), null);
+
+        final GeographicCoordinates location = locate(service, MOUNTAIN_VIEW);
+        assertThat(location.getLatitude(), is(MOUNTAIN_VIEW_LAT));
+        assertThat(location.getLongitude(), is(MOUNTAIN_VIEW_LNG));
+        assertThat(locate(service, MOUNTAIN_VIEW_STATE).getLatitude(), is(MOUNTAIN_VIEW_LAT));
+        assertThat(locate(service, MOUNTAIN_VIEW_COUNTRY).getLatitude(), is(MOUNTAIN_VIEW_LAT));
+    }
+
+    @Test
+    void mostPopulatedTest() {
+        final GazetteerGeoLocationService service = new GazetteerGeoLocationService(resource(CITIES), null);
+
+        assertThat(locate(service, LONDON).getLatitude(), is(LONDON_LAT));
+        assertThat(locate(service, LONDON_CANADA).getLatitude(), is(LONDON_CANADA_LAT));
+    }
+
+    @Test
+    void qualifiedComponentTest() {
+        final GazetteerGeoLocationService service = new GazetteerGeoLocationService(resource(CITIES), null);
+
+        assertThat(locate(service, PARIS_TEXAS).getLatitude(), is(PARIS_TEXAS_LAT));
+        assertThat(locate(service, PARIS_TEXAS_COUNTRY).getLatitude(), is(PARIS_TEXAS_LAT));
+
+        final GeographicCoordinates location = Mono.just(PARIS_TEXAS_UNQUALIFIED).transform(service::fromAddress)
+                .onErrorResume(throwable -> {
+                    assertThat(throwable, instanceOf(GeoLocationNotFoundException.class));
+                    return Mono.empty();
+                }).block();
+
+        assertThat(location, is(nullValue()));
+    }
+
+    @Test
+    void prefixFallbackTest() {
+        final GeoLocationService fallback = mock(GeoLocationService.class);
+        doReturn(Mono.just(new GeographicCoordinates(GOOGLE_LAT, GOOGLE_LNG))).when(fallback).fromAddress(any());
+        final GazetteerGeoLocationService service = new GazetteerGeoLocationService(resource(CITIES), fallback);
+
+        assertThat(locate(service, ZARAGOZA_PREFIX).getLatitude(), is(GOOGLE_LAT));
+
+        verify(fallback, times(1)).fromAddress(any());
+    }
+
+    @Test
+    void postalCodeTest() {
+        final GazetteerGeoLocationService service = new GazetteerGeoLocationService(resource(POSTAL_CODES), null);
+
+        assertThat(locate(service, POSTAL_CODE).getLatitude(), is(POSTAL_CODE_LAT));
+    }
+
+    @Test
+    void notFoundTest() {
+        final GazetteerGeoLocationService service = new GazetteerGeoLocationService(resource(CITIES), null);
+
+        final GeographicCoordinates location = Mono.just(GOOGLE_ADDRESS).transform(service::fromAddress)
+                .onErrorResume(throwable -> {
+                    assertThat(throwable, instanceOf(GeoLocationNotFoundException.class));
+                    return Mono.empty();
+                }).block();
+
+        assertThat(location, is(nullValue()));
+    }
+
+    @Test
+    void emptyAddressTest() {
+        final GazetteerGeoLocationService service = new GazetteerGeoLocationService(resource(CITIES), null);
+
+        final GeographicCoordinates location = Mono.just("").transform(service::fromAddress)
+                .onErrorResume(throwable -> {
+                    assertThat(throwable, instanceOf(InvalidParametersException.class));
+                    return Mono.empty();
+                }).block();
+
+        assertThat(location, is(nullValue()));
+    }
+
+    @Test
+    void fallbackTest() {
+        final GeoLocationService fallback = mock(GeoLocationService.class);
+        doReturn(Mono.just(new GeographicCoordinates(GOOGLE_LAT, GOOGLE_LNG))).when(fallback).fromAddress(any());
+        final GazetteerGeoLocationService service = new GazetteerGeoLocationService(resource(CITIES), fallback);
+
+        assertThat(locate(service, GOOGLE_ADDRESS).getLatitude(), is(GOOGLE_LAT));
+        assertThat(locate(service, MOUNTAIN_VIEW).getLatitude(), is(MOUNTAIN_VIEW_LAT));
+
+        verify(fallback, times(1)).fromAddress(any());
+    }
+}
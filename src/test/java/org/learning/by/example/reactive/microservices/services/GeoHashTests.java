@@ -0,0 +1,54 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@UnitTest
+@DisplayName("GeoHash Unit Tests")
+class GeoHashTests {
+
+    private static final double GOOGLE_LAT = 37.4224082;
+    private static final double GOOGLE_LNG = -122.0856086;
+    private static final String GOOGLE_CELL = "9q9hv";
+    private static final double NEARBY_LAT = 37.4201;
+    private static final double NEARBY_LNG = -122.0901;
+    private static final double CELL_HALF_SIZE = 0.025;
+
+    @Test
+    void encodeTest() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11), is("u4pruydqqvj"));
+        assertThat(GeoHash.encode(GOOGLE_LAT, GOOGLE_LNG, 5), is(GOOGLE_CELL));
+    }
+
+    @Test
+    void encodeNearbySameCellTest() {
+        assertThat(GeoHash.encode(NEARBY_LAT, NEARBY_LNG, 5), is(GOOGLE_CELL));
+    }
+
+    @Test
+    void centerTest() {
+        final GeographicCoordinates center = GeoHash.center(GOOGLE_CELL);
+
+        assertThat(center.getLatitude(), closeTo(GOOGLE_LAT, CELL_HALF_SIZE));
+        assertThat(center.getLongitude(), closeTo(GOOGLE_LNG, CELL_HALF_SIZE));
+        assertThat(GeoHash.encode(center.getLatitude(), center.getLongitude(), 5), is(GOOGLE_CELL));
+    }
+
+    @Test
+    void invalidPrecisionTest() {
+        assertThrows(IllegalArgumentException.class, () -> GeoHash.encode(GOOGLE_LAT, GOOGLE_LNG, 0));
+        assertThrows(IllegalArgumentException.class, () -> GeoHash.encode(GOOGLE_LAT, GOOGLE_LNG, 13));
+    }
+
+    @Test
+    void invalidHashTest() {
+        assertThrows(IllegalArgumentException.class, () -> GeoHash.center("9q9ha"));
+    }
+}
@@ -0,0 +1,93 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.model.GeoLocationResponse;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+
+@UnitTest
+@DisplayName("GeoLocationResponseDecoder Unit Tests")
+class GeoLocationResponseDecoderTests {
+
+    private static final String JSON_OK = "/json/GeoLocationResponse_OK.json";
+    private static final String JSON_NOT_FOUND = "/json/GeoLocationResponse_NOT_FOUND.json";
+    private static final String JSON_EMPTY = "/json/GeoLocationResponse_EMPTY.json";
+    private static final String OK_STATUS = "OK";
+    private static final String ZERO_RESULTS = "ZERO_RESULTS";
+    private static final double GOOGLE_LAT = 37.4224082;
+    private static final double GOOGLE_LNG = -122.0856086;
+    private static final int CHUNK_SIZE = 7;
+    private static final ResolvableType GEO_LOCATION_RESPONSE_TYPE = ResolvableType.forClass(GeoLocationResponse.class);
+
+    private final GeoLocationResponseDecoder decoder = new GeoLocationResponseDecoder();
+
+    @Test
+    void canDecodeTest() {
+        assertThat(decoder.canDecode(GEO_LOCATION_RESPONSE_TYPE, MediaType.APPLICATION_JSON), is(true));
+        assertThat(decoder.canDecode(GEO_LOCATION_RESPONSE_TYPE, MediaType.TEXT_HTML), is(false));
+        assertThat(decoder.canDecode(ResolvableType.forClass(Object.class), MediaType.APPLICATION_JSON), is(false));
+    }
+
+    @Test
+    void decodeOkTest() {
+        final GeoLocationResponse response = decode(JSON_OK);
+
+        assertThat(response.getStatus(), is(OK_STATUS));
+        assertThat(response.getResults().length, is(1));
+        assertThat(response.getResults()[0].getGeometry().getLocation().getLat(), is(GOOGLE_LAT));
+        assertThat(response.getResults()[0].getGeometry().getLocation().getLng(), is(GOOGLE_LNG));
+    }
+
+    @Test
+    void decodeNotFoundTest() {
+        final GeoLocationResponse response = decode(JSON_NOT_FOUND);
+
+        assertThat(response.getStatus(), is(ZERO_RESULTS));
+        assertThat(response.getResults().length, is(0));
+    }
+
+    @Test
+    void decodeEmptyTest() {
+        final GeoLocationResponse response = decode(JSON_EMPTY);
+
+        assertThat(response.getStatus(), is(nullValue()));
+        assertThat(response.getResults(), is(nullValue()));
+    }
+
+    private GeoLocationResponse decode(final String jsonPath) {
+        return decoder.decodeToMono(chunks(jsonPath), GEO_LOCATION_RESPONSE_TYPE, MediaType.APPLICATION_JSON,
+                Collections.emptyMap()).block();
+    }
+
+    private static Flux<DataBuffer> chunks(final String jsonPath) {
+        try {
+            final byte[] bytes = Files.readAllBytes(Paths.get(GeoLocationResponseDecoderTests.class.getResource(jsonPath).toURI()));
+            final DefaultDataBufferFactory factory = new DefaultDataBufferFactory();
+            final List<DataBuffer> buffers = new ArrayList<>();
+            for (int offset = 0; offset < bytes.length; offset += CHUNK_SIZE) {
+                buffers.add(factory.wrap(Arrays.copyOfRange(bytes, offset, Math.min(offset + CHUNK_SIZE, bytes.length))));
+            }
+            return Flux.fromIterable(buffers);
+        } catch (IOException | URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -5,11 +5,13 @@ import org.junit.jupiter.api.Test;
 import org.learning.by.example.reactive.microservices.exceptions.GeoLocationNotFoundException;
 import org.learning.by.example.reactive.microservices.exceptions.GetGeoLocationException;
 import org.learning.by.example.reactive.microservices.exceptions.InvalidParametersException;
+import org.learning.by.example.reactive.microservices.exceptions.UpstreamRateLimitedException;
 import org.learning.by.example.reactive.microservices.model.GeoLocationResponse;
 import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
 import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -28,12 +30,20 @@ import static org.mockito.Mockito.*;
 class GeoLocationServiceImplTests {
 
     private static final String GOOGLE_ADDRESS = "1600 Amphitheatre Parkway, Mountain View, CA";
-    private static final String GOOGLE_ADDRESS_IN_PARAMS = "?address=" + GOOGLE_ADDRESS;
+    private static final String GOOGLE_ADDRESS_IN_PARAMS = "?address=1600+Amphitheatre+Parkway%2C+Mountain+View%2C+CA";
+    private static final String GOOGLE_ADDRESS_VARIANT = "  1600 amphitheatre   PARKWAY, Mountain View, CA ";
+    private static final String SPECIAL_ADDRESS = " Bar & Grill #2, Main St ";
+    private static final String SPECIAL_ADDRESS_IN_PARAMS = "?address=Bar+%26+Grill+%232%2C+Main+St";
+    private static final String ABBREVIATED_ADDRESS = "Hartford CT 06103";
+    private static final String ABBREVIATED_ADDRESS_IN_PARAMS = "?address=Hartford+CT+06103";
     private static final Mono<String> GOOGLE_ADDRESS_MONO = Mono.just(GOOGLE_ADDRESS);
     private static final String BAD_EXCEPTION = "bad exception";
     private static final double GOOGLE_LAT = 37.4224082;
     private static final double GOOGLE_LNG = -122.0856086;
     private static final String OK_STATUS = "OK";
+    private static final long NOT_FOUND_MAXIMUM_SIZE = 10;
+    private static final long NOT_FOUND_TIME_TO_LIVE = 60;
+    private static final double RATE_PER_SECOND = 0.001;
 
     @SpyBean(GeoLocationService.class)
     private GeoLocationServiceImpl locationService;
@@ -42,11 +52,13 @@ class GeoLocationServiceImplTests {
     private static final String JSON_NOT_FOUND = "/json/GeoLocationResponse_NOT_FOUND.json";
     private static final String JSON_EMPTY = "/json/GeoLocationResponse_EMPTY.json";
     private static final String JSON_WRONG_STATUS = "/json/GeoLocationResponse_WRONG_STATUS.json";
+    private static final String JSON_OVER_QUERY_LIMIT = "/json/GeoLocationResponse_OVER_QUERY_LIMIT.json";
 
     private static final Mono<GeoLocationResponse> LOCATION_OK = getMonoFromJsonPath(JSON_OK, GeoLocationResponse.class);
     private static final Mono<GeoLocationResponse> LOCATION_NOT_FOUND = getMonoFromJsonPath(JSON_NOT_FOUND, GeoLocationResponse.class);
     private static final Mono<GeoLocationResponse> LOCATION_EMPTY = getMonoFromJsonPath(JSON_EMPTY, GeoLocationResponse.class);
     private static final Mono<GeoLocationResponse> LOCATION_WRONG_STATUS = getMonoFromJsonPath(JSON_WRONG_STATUS, GeoLocationResponse.class);
+    private static final Mono<GeoLocationResponse> LOCATION_OVER_QUERY_LIMIT = getMonoFromJsonPath(JSON_OVER_QUERY_LIMIT, GeoLocationResponse.class);
     private static final Mono<GeoLocationResponse> LOCATION_EXCEPTION = Mono.error(new GetGeoLocationException(BAD_EXCEPTION));
     private static final Mono<GeoLocationResponse> BIG_EXCEPTION = Mono.error(new RuntimeException(BAD_EXCEPTION));
 
@@ -62,7 +74,8 @@ class GeoLocationServiceImplTests {
     void getMockingWebClientTest() {
         locationService.webClient = mockWebClient(locationService.webClient, LOCATION_OK);
 
-        final GeoLocationResponse location = GOOGLE_ADDRESS_MONO.transform(locationService::get).block();
+        final GeoLocationResponse location = Mono.just(endPoint.concat(GOOGLE_ADDRESS_IN_PARAMS))
+                .transform(locationService::get).block();
         assertThat(location.getStatus(), is(OK_STATUS));
 
         reset(locationService.webClient);
@@ -93,6 +106,8 @@ class GeoLocationServiceImplTests {
         final GeographicCoordinates geographicCoordinates = GOOGLE_ADDRESS_MONO.transform(locationService::fromAddress)
                 .onErrorResume(throwable -> {
                     assertThat(throwable, instanceOf(GeoLocationNotFoundException.class));
+                    assertThat(throwable, is(GeoLocationNotFoundException.ADDRESS_NOT_FOUND));
+                    assertThat(throwable.getStackTrace().length, is(0));
                     return Mono.empty();
                 }).block();
 
@@ -186,6 +201,81 @@ class GeoLocationServiceImplTests {
         reset(locationService);
     }
 
+    @Test
+    void fromAddressOverQueryLimitTest() {
+        doReturn(LOCATION_OVER_QUERY_LIMIT).when(locationService).get(any());
+
+        final GeographicCoordinates geographicCoordinates = GOOGLE_ADDRESS_MONO.transform(locationService::fromAddress)
+                .onErrorResume(throwable -> {
+                    assertThat(throwable, is(UpstreamRateLimitedException.OVER_QUERY_LIMIT));
+                    return Mono.empty();
+                }).block();
+
+        assertThat(geographicCoordinates, is(nullValue()));
+
+        reset(locationService);
+    }
+
+    @Test
+    void fromAddressRateLimitedTest() {
+        final WebClient webClient = mockWebClient(WebClient.create(), LOCATION_OK);
+        final GeoLocationServiceImpl service = new GeoLocationServiceImpl(endPoint, webClient,
+                new TokenBucketRateLimiter(RATE_PER_SECOND, 1, 0));
+
+        GOOGLE_ADDRESS_MONO.transform(service::fromAddress).block();
+        final GeographicCoordinates geographicCoordinates = Mono.just(SPECIAL_ADDRESS).transform(service::fromAddress)
+                .onErrorResume(throwable -> {
+                    assertThat(throwable, instanceOf(GetGeoLocationException.class));
+                    assertThat(throwable.getCause(), is(UpstreamRateLimitedException.RATE_LIMITED));
+                    return Mono.empty();
+                }).block();
+
+        assertThat(geographicCoordinates, is(nullValue()));
+    }
+
+    @Test
+    void fromAddressNotFoundCachedTest() {
+        final WebClient webClient = mockWebClient(WebClient.create(), LOCATION_NOT_FOUND);
+        final GeoLocationServiceImpl service = new GeoLocationServiceImpl(endPoint, webClient,
+                NOT_FOUND_MAXIMUM_SIZE, NOT_FOUND_TIME_TO_LIVE);
+
+        for (int i = 0; i < 2; i++) {
+            final GeographicCoordinates geographicCoordinates = GOOGLE_ADDRESS_MONO.transform(service::fromAddress)
+                    .onErrorResume(throwable -> {
+                        assertThat(throwable, is(GeoLocationNotFoundException.ADDRESS_NOT_FOUND));
+                        return Mono.empty();
+                    }).block();
+            assertThat(geographicCoordinates, is(nullValue()));
+        }
+
+        verify(webClient, times(1)).get();
+    }
+
+    @Test
+    void fromAddressVariantNotFoundCachedTest() {
+        final WebClient webClient = mockWebClient(WebClient.create(), LOCATION_NOT_FOUND);
+        final GeoLocationServiceImpl service = new GeoLocationServiceImpl(endPoint, webClient,
+                NOT_FOUND_MAXIMUM_SIZE, NOT_FOUND_TIME_TO_LIVE);
+
+        for (final String address : new String[]{GOOGLE_ADDRESS, GOOGLE_ADDRESS_VARIANT}) {
+            Mono.just(address).transform(service::fromAddress).onErrorResume(throwable -> Mono.empty()).block();
+        }
+
+        verify(webClient, times(1)).get();
+    }
+
+    @Test
+    void fromAddressFoundNotNegativelyCachedTest() {
+        final WebClient webClient = mockWebClient(WebClient.create(), LOCATION_OK);
+        final GeoLocationServiceImpl service = new GeoLocationServiceImpl(endPoint, webClient,
+                NOT_FOUND_MAXIMUM_SIZE, NOT_FOUND_TIME_TO_LIVE);
+
+        GOOGLE_ADDRESS_MONO.transform(service::fromAddress).block();
+        GOOGLE_ADDRESS_MONO.transform(service::fromAddress).block();
+
+        verify(webClient, times(2)).get();
+    }
+
     @Test
     void buildUrlTest() {
         final String url = GOOGLE_ADDRESS_MONO.transform(locationService::buildUrl).block();
@@ -194,6 +284,20 @@ class GeoLocationServiceImplTests {
         assertThat(url, is(endPoint.concat(GOOGLE_ADDRESS_IN_PARAMS)));
     }
 
+    @Test
+    void buildUrlEncodedTest() {
+        final String url = Mono.just(SPECIAL_ADDRESS).transform(locationService::buildUrl).block();
+
+        assertThat(url, is(endPoint.concat(SPECIAL_ADDRESS_IN_PARAMS)));
+    }
+
+    @Test
+    void buildUrlNotExpandedTest() {
+        final String url = Mono.just(ABBREVIATED_ADDRESS).transform(locationService::buildUrl).block();
+
+        assertThat(url, is(endPoint.concat(ABBREVIATED_ADDRESS_IN_PARAMS)));
+    }
+
     @Test
     void buildUrlEmptyAddressTest() {
         final String url = Mono.just("").transform(locationService::buildUrl)
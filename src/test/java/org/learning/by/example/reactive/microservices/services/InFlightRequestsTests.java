@@ -0,0 +1,80 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+@UnitTest
+@DisplayName("InFlightRequests Unit Tests")
+class InFlightRequestsTests {
+
+    private static final String KEY = "key";
+    private static final String OTHER_KEY = "other key";
+    private static final String VALUE = "value";
+    private static final Duration DELAY = Duration.ofMillis(100);
+
+    @Test
+    void concurrentRequestsSharedTest() {
+        final InFlightRequests<String, String> inFlightRequests = new InFlightRequests<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<Mono<String>> request = delayedRequest(calls);
+
+        final String result = Mono.zip(inFlightRequests.get(KEY, request), inFlightRequests.get(KEY, request),
+                (first, second) -> first + second).block();
+
+        assertThat(result, is(VALUE + VALUE));
+        assertThat(calls.get(), is(1));
+        assertThat(inFlightRequests.size(), is(0));
+    }
+
+    @Test
+    void differentKeysNotSharedTest() {
+        final InFlightRequests<String, String> inFlightRequests = new InFlightRequests<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<Mono<String>> request = delayedRequest(calls);
+
+        Mono.zip(inFlightRequests.get(KEY, request), inFlightRequests.get(OTHER_KEY, request),
+                (first, second) -> first + second).block();
+
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    void completedRequestNotSharedTest() {
+        final InFlightRequests<String, String> inFlightRequests = new InFlightRequests<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<Mono<String>> request = delayedRequest(calls);
+
+        inFlightRequests.get(KEY, request).block();
+        inFlightRequests.get(KEY, request).block();
+
+        assertThat(calls.get(), is(2));
+        assertThat(inFlightRequests.size(), is(0));
+    }
+
+    @Test
+    void errorRequestRemovedTest() {
+        final InFlightRequests<String, String> inFlightRequests = new InFlightRequests<>();
+
+        final String result = inFlightRequests.get(KEY, () -> Mono.<String>error(new RuntimeException()))
+                .onErrorResume(throwable -> Mono.just(VALUE)).block();
+
+        assertThat(result, is(VALUE));
+        assertThat(inFlightRequests.size(), is(0));
+    }
+
+    private static Supplier<Mono<String>> delayedRequest(final AtomicInteger calls) {
+        return () -> {
+            calls.incrementAndGet();
+            return Mono.delay(DELAY).map(tick -> VALUE);
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.learning.by.example.reactive.microservices.model.SunriseSunset;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+@UnitTest
+@DisplayName("LocalSunriseSunsetService Unit Tests")
+class LocalSunriseSunsetServiceTests {
+
+    private static final double GOOGLE_LAT = 37.4224082;
+    private static final double GOOGLE_LNG = -122.0856086;
+    private static final Mono<GeographicCoordinates> GOOGLE_LOCATION_MONO = Mono.just(new GeographicCoordinates(GOOGLE_LAT, GOOGLE_LNG));
+    private static final Clock FIXTURE_CLOCK = Clock.fixed(Instant.parse("2017-05-21T10:00:00Z"), ZoneOffset.UTC);
+    private static final String SUNRISE_TIME = "2017-05-21T12:54:34+00:00";
+    private static final String SUNSET_TIME = "2017-05-22T03:15:50+00:00";
+
+    private final LocalSunriseSunsetService sunriseSunsetService = new LocalSunriseSunsetService(FIXTURE_CLOCK);
+
+    @Test
+    void fromLocationTest() {
+        final SunriseSunset result = GOOGLE_LOCATION_MONO.transform(sunriseSunsetService::fromGeographicCoordinates).block();
+
+        assertThat(result, is(notNullValue()));
+        assertThat(result.getSunrise(), is(SUNRISE_TIME));
+        assertThat(result.getSunset(), is(SUNSET_TIME));
+    }
+
+    @Test
+    void fromLocationEmptyTest() {
+        final SunriseSunset result = Mono.<GeographicCoordinates>empty()
+                .transform(sunriseSunsetService::fromGeographicCoordinates).block();
+
+        assertThat(result, is(nullValue()));
+    }
+
+    @Test
+    void fromLocationOnDateTest() {
+        final SunriseSunset result = sunriseSunsetService.fromGeographicCoordinates(GOOGLE_LOCATION_MONO,
+                LocalDate.now(FIXTURE_CLOCK).plusDays(1)).block();
+
+        assertThat(result, is(notNullValue()));
+        assertThat(result.getSunrise(), is(not(SUNRISE_TIME)));
+    }
+}
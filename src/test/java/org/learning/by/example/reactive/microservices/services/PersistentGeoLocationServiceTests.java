@@ -0,0 +1,54 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@UnitTest
+@DisplayName("PersistentGeoLocationService Unit Tests")
+class PersistentGeoLocationServiceTests {
+
+    private static final String GOOGLE_ADDRESS = "1600 Amphitheatre Parkway, Mountain View, CA";
+    private static final String GOOGLE_ADDRESS_KEY = "1600 amphitheatre parkway, mountain view, ca";
+    private static final double GOOGLE_LAT = 37.4224082;
+    private static final double GOOGLE_LNG = -122.0856086;
+
+    private static final GeographicCoordinates GOOGLE_LOCATION = new GeographicCoordinates(GOOGLE_LAT, GOOGLE_LNG);
+
+    @Test
+    void fromAddressStoredTest() {
+        final GeoLocationService geoLocationService = mock(GeoLocationService.class);
+        final PersistentGeoLocationStore store = mock(PersistentGeoLocationStore.class);
+        doReturn(GOOGLE_LOCATION).when(store).get(GOOGLE_ADDRESS_KEY);
+        final PersistentGeoLocationService service = new PersistentGeoLocationService(geoLocationService, store,
+                Schedulers.immediate());
+
+        final GeographicCoordinates location = Mono.just(GOOGLE_ADDRESS).transform(service::fromAddress).block();
+
+        assertThat(location, is(GOOGLE_LOCATION));
+        verify(geoLocationService, never()).fromAddress(any());
+    }
+
+    @Test
+    void fromAddressNotStoredTest() {
+        final GeoLocationService geoLocationService = mock(GeoLocationService.class);
+        doReturn(Mono.just(GOOGLE_LOCATION)).when(geoLocationService).fromAddress(any());
+        final PersistentGeoLocationStore store = mock(PersistentGeoLocationStore.class);
+        final PersistentGeoLocationService service = new PersistentGeoLocationService(geoLocationService, store,
+                Schedulers.immediate());
+
+        final GeographicCoordinates location = Mono.just(GOOGLE_ADDRESS).transform(service::fromAddress).block();
+
+        assertThat(location, is(GOOGLE_LOCATION));
+        verify(geoLocationService, times(1)).fromAddress(any());
+        verify(store, times(1)).put(GOOGLE_ADDRESS_KEY, GOOGLE_LOCATION);
+    }
+}
@@ -0,0 +1,195 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@UnitTest
+@DisplayName("PersistentGeoLocationStore Unit Tests")
+class PersistentGeoLocationStoreTests {
+
+    private static final String GOOGLE_ADDRESS = "1600 amphitheatre parkway, mountain view, ca";
+    private static final String OTHER_ADDRESS = "trafalgar square, london";
+    private static final double GOOGLE_LAT = 37.4224082;
+    private static final double GOOGLE_LNG = -122.0856086;
+    private static final double OTHER_LAT = 51.508039;
+    private static final double OTHER_LNG = -0.128069;
+    private static final int LOG_SIZE = 64 * 1024;
+    private static final int SMALL_LOG_SIZE = 128;
+    private static final int MANY_ENTRIES = 2000;
+    private static final long TIME_TO_LIVE = 3600;
+    private static final long EXPIRED = TimeUnit.SECONDS.toMillis(TIME_TO_LIVE);
+
+    private static final GeographicCoordinates GOOGLE_LOCATION = new GeographicCoordinates(GOOGLE_LAT, GOOGLE_LNG);
+    private static final GeographicCoordinates OTHER_LOCATION = new GeographicCoordinates(OTHER_LAT, OTHER_LNG);
+
+    private Path directory;
+    private Clock clock;
+
+    @BeforeEach
+    void setup() throws IOException {
+        directory = Files.createTempDirectory("geocode-store");
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.walk(directory).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+
+    private PersistentGeoLocationStore loadedStore(final int logSize) {
+        final PersistentGeoLocationStore store = new PersistentGeoLocationStore(directory, logSize, TIME_TO_LIVE, clock);
+        store.load();
+        return store;
+    }
+
+    private static void assertLocation(final GeographicCoordinates location, final double lat, final double lng) {
+        assertThat(location.getLatitude(), is(lat));
+        assertThat(location.getLongitude(), is(lng));
+    }
+
+    @Test
+    void notLoadedTest() {
+        final PersistentGeoLocationStore store = new PersistentGeoLocationStore(directory, LOG_SIZE, TIME_TO_LIVE, clock);
+
+        assertThat(store.put(GOOGLE_ADDRESS, GOOGLE_LOCATION), is(false));
+        assertThat(store.get(GOOGLE_ADDRESS), is(nullValue()));
+
+        store.close();
+    }
+
+    @Test
+    void putGetTest() {
+        final PersistentGeoLocationStore store = loadedStore(LOG_SIZE);
+
+        assertThat(store.put(GOOGLE_ADDRESS, GOOGLE_LOCATION), is(true));
+
+        assertLocation(store.get(GOOGLE_ADDRESS), GOOGLE_LAT, GOOGLE_LNG);
+        assertThat(store.get(OTHER_ADDRESS), is(nullValue()));
+
+        store.close();
+    }
+
+    @Test
+    void reopenTest() {
+        final PersistentGeoLocationStore store = loadedStore(LOG_SIZE);
+        store.put(GOOGLE_ADDRESS, GOOGLE_LOCATION);
+        store.put(OTHER_ADDRESS, OTHER_LOCATION);
+        store.close();
+
+        final PersistentGeoLocationStore reopened = loadedStore(LOG_SIZE);
+
+        assertThat(reopened.size(), is(2));
+        assertLocation(reopened.get(GOOGLE_ADDRESS), GOOGLE_LAT, GOOGLE_LNG);
+        assertLocation(reopened.get(OTHER_ADDRESS), OTHER_LAT, OTHER_LNG);
+
+        reopened.close();
+    }
+
+    @Test
+    void expiredTest() {
+        final PersistentGeoLocationStore store = loadedStore(LOG_SIZE);
+        store.put(GOOGLE_ADDRESS, GOOGLE_LOCATION);
+
+        when(clock.millis()).thenReturn(EXPIRED);
+        assertThat(store.get(GOOGLE_ADDRESS), is(nullValue()));
+
+        assertThat(store.put(GOOGLE_ADDRESS, GOOGLE_LOCATION), is(true));
+        assertLocation(store.get(GOOGLE_ADDRESS), GOOGLE_LAT, GOOGLE_LNG);
+        store.close();
+
+        final PersistentGeoLocationStore reopened = loadedStore(LOG_SIZE);
+
+        assertLocation(reopened.get(GOOGLE_ADDRESS), GOOGLE_LAT, GOOGLE_LNG);
+
+        reopened.close();
+    }
+
+    @Test
+    void manyEntriesTest() {
+        final PersistentGeoLocationStore store = loadedStore(LOG_SIZE * 4);
+        for (int i = 0; i < MANY_ENTRIES; i++) {
+            assertThat(store.put(OTHER_ADDRESS + i, new GeographicCoordinates(i, -i)), is(true));
+        }
+
+        assertThat(store.size(), is(MANY_ENTRIES));
+        for (int i = 0; i < MANY_ENTRIES; i++) {
+            assertLocation(store.get(OTHER_ADDRESS + i), i, -i);
+        }
+
+        store.close();
+    }
+
+    @Test
+    void compactTest() {
+        final PersistentGeoLocationStore store = loadedStore(LOG_SIZE);
+        store.put(GOOGLE_ADDRESS, GOOGLE_LOCATION);
+
+        assertThat(store.compact(), is(false));
+
+        store.put(GOOGLE_ADDRESS, OTHER_LOCATION);
+
+        assertThat(store.compact(), is(true));
+        assertLocation(store.get(GOOGLE_ADDRESS), OTHER_LAT, OTHER_LNG);
+        store.close();
+
+        final PersistentGeoLocationStore reopened = loadedStore(LOG_SIZE);
+
+        assertThat(reopened.size(), is(1));
+        assertLocation(reopened.get(GOOGLE_ADDRESS), OTHER_LAT, OTHER_LNG);
+
+        reopened.close();
+    }
+
+    @Test
+    void compactExpiredTest() {
+        final PersistentGeoLocationStore store = loadedStore(SMALL_LOG_SIZE * 4);
+        int entries = 0;
+        while (store.put(OTHER_ADDRESS + entries, OTHER_LOCATION)) {
+            entries++;
+        }
+
+        assertThat(store.compact(), is(false));
+        assertThat(store.put(GOOGLE_ADDRESS, GOOGLE_LOCATION), is(false));
+
+        when(clock.millis()).thenReturn(EXPIRED);
+
+        assertThat(store.compact(), is(true));
+        assertThat(store.size(), is(0));
+        assertThat(store.put(GOOGLE_ADDRESS, GOOGLE_LOCATION), is(true));
+        assertLocation(store.get(GOOGLE_ADDRESS), GOOGLE_LAT, GOOGLE_LNG);
+
+        store.close();
+    }
+
+    @Test
+    void fullTest() {
+        final PersistentGeoLocationStore store = loadedStore(SMALL_LOG_SIZE);
+
+        assertThat(store.put(GOOGLE_ADDRESS, GOOGLE_LOCATION), is(true));
+        assertThat(store.put(GOOGLE_ADDRESS, GOOGLE_LOCATION), is(true));
+        assertThat(store.put(GOOGLE_ADDRESS, OTHER_LOCATION), is(false));
+
+        assertLocation(store.get(GOOGLE_ADDRESS), GOOGLE_LAT, GOOGLE_LNG);
+
+        store.close();
+    }
+}
@@ -0,0 +1,106 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@UnitTest
+@DisplayName("RefreshingCache Unit Tests")
+class RefreshingCacheTests {
+
+    private static final String KEY = "key";
+    private static final String FIRST = "first";
+    private static final String SECOND = "second";
+    private static final String BIG_ERROR = "big error";
+    private static final long MAXIMUM_SIZE = 10;
+    private static final long TIME_TO_LIVE = 60;
+    private static final long HARD_TIME_TO_LIVE = 600;
+    private static final long FRESH = TimeUnit.SECONDS.toMillis(TIME_TO_LIVE) - 1;
+    private static final long STALE = TimeUnit.SECONDS.toMillis(TIME_TO_LIVE);
+    private static final long EXPIRED = TimeUnit.SECONDS.toMillis(HARD_TIME_TO_LIVE);
+
+    private Clock clock;
+    private RefreshingCache<String, String> cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        cache = new RefreshingCache<>(MAXIMUM_SIZE, TIME_TO_LIVE, HARD_TIME_TO_LIVE, clock);
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<Mono<String>> loader(final Mono<String> result) {
+        return () -> {
+            loads.incrementAndGet();
+            return result;
+        };
+    }
+
+    @Test
+    void freshTest() {
+        cache.get(KEY, loader(Mono.just(FIRST))).block();
+        when(clock.millis()).thenReturn(FRESH);
+
+        assertThat(cache.get(KEY, loader(Mono.just(SECOND))).block(), is(FIRST));
+        assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    void staleWhileRevalidateTest() {
+        cache.get(KEY, loader(Mono.just(FIRST))).block();
+        when(clock.millis()).thenReturn(STALE);
+
+        assertThat(cache.get(KEY, loader(Mono.just(SECOND))).block(), is(FIRST));
+        assertThat(loads.get(), is(2));
+        assertThat(cache.get(KEY, loader(Mono.just(SECOND))).block(), is(SECOND));
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    void staleIfErrorTest() {
+        cache.get(KEY, loader(Mono.just(FIRST))).block();
+        when(clock.millis()).thenReturn(STALE);
+
+        assertThat(cache.get(KEY, loader(Mono.error(new RuntimeException(BIG_ERROR)))).block(), is(FIRST));
+        assertThat(cache.get(KEY, loader(Mono.error(new RuntimeException(BIG_ERROR)))).block(), is(FIRST));
+        assertThat(loads.get(), is(3));
+    }
+
+    @Test
+    void hardExpiredTest() {
+        cache.get(KEY, loader(Mono.just(FIRST))).block();
+        when(clock.millis()).thenReturn(EXPIRED);
+
+        final String result = cache.get(KEY, loader(Mono.error(new RuntimeException(BIG_ERROR))))
+                .onErrorResume(throwable -> {
+                    assertThat(throwable, instanceOf(RuntimeException.class));
+                    return Mono.empty();
+                }).block();
+
+        assertThat(result, is(nullValue()));
+        assertThat(cache.get(KEY, loader(Mono.just(SECOND))).block(), is(SECOND));
+    }
+
+    @Test
+    void invalidTimeToLiveTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RefreshingCache<String, String>(MAXIMUM_SIZE, HARD_TIME_TO_LIVE, TIME_TO_LIVE, clock));
+    }
+}
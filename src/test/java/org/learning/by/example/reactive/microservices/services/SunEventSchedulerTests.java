@@ -0,0 +1,160 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
+import org.learning.by.example.reactive.microservices.model.SunEvent;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import org.mockito.ArgumentCaptor;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@UnitTest
+@DisplayName("SunEventScheduler Unit Tests")
+class SunEventSchedulerTests {
+
+    private static final String EQUATOR = "equator";
+    private static final String OTHER = "other";
+    private static final String NORTH_POLE = "north pole";
+    private static final long EQUINOX = OffsetDateTime.parse("2017-03-20T00:00:00Z").toInstant().toEpochMilli();
+    private static final long SOLSTICE = OffsetDateTime.parse("2017-06-21T00:00:00Z").toInstant().toEpochMilli();
+    private static final GeographicCoordinates EQUATOR_LOCATION = new GeographicCoordinates(0, 0);
+    private static final GeographicCoordinates NORTH_POLE_LOCATION = new GeographicCoordinates(90, 0);
+    private static final String FIRST_TYPE = "astronomical_twilight_begin";
+    private static final String SECOND_TYPE = "nautical_twilight_begin";
+
+    private Timer timer;
+    private Timeout timeout;
+    private Clock clock;
+    private SunEventScheduler scheduler;
+
+    @BeforeEach
+    void setup() {
+        timer = mock(Timer.class);
+        timeout = mock(Timeout.class);
+        when(timer.newTimeout(any(), anyLong(), any())).thenReturn(timeout);
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(EQUINOX);
+        scheduler = new SunEventScheduler(timer, clock);
+    }
+
+    private static long millis(final SunEvent event) {
+        return OffsetDateTime.parse(event.getTime()).toInstant().toEpochMilli();
+    }
+
+    @Test
+    void upcomingEventTest() {
+        final List<SunEvent> events = new ArrayList<>();
+        final Disposable subscription = scheduler.events(EQUATOR, EQUATOR_LOCATION).subscribe(events::add);
+
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).getLocation(), is(EQUATOR));
+        assertThat(events.get(0).getType(), is(FIRST_TYPE));
+        assertThat(events.get(0).isUpcoming(), is(true));
+
+        final ArgumentCaptor<Long> delay = ArgumentCaptor.forClass(Long.class);
+        verify(timer, times(1)).newTimeout(any(), delay.capture(), eq(TimeUnit.MILLISECONDS));
+        assertThat(delay.getValue(), is(millis(events.get(0)) - EQUINOX));
+
+        subscription.dispose();
+    }
+
+    @Test
+    void transitionEventTest() {
+        final List<SunEvent> events = new ArrayList<>();
+        final Disposable subscription = scheduler.events(EQUATOR, EQUATOR_LOCATION).subscribe(events::add);
+
+        final ArgumentCaptor<TimerTask> task = ArgumentCaptor.forClass(TimerTask.class);
+        verify(timer).newTimeout(task.capture(), anyLong(), any());
+        when(clock.millis()).thenReturn(millis(events.get(0)));
+        task.getValue().run(timeout);
+
+        assertThat(events.size(), is(2));
+        assertThat(events.get(1).getType(), is(FIRST_TYPE));
+        assertThat(events.get(1).isUpcoming(), is(false));
+        assertThat(events.get(1).getTime(), is(events.get(0).getTime()));
+        verify(timer, times(2)).newTimeout(any(), anyLong(), any());
+        assertThat(SunEventScheduler.next(EQUATOR_LOCATION, millis(events.get(0)) / 1000).getType(), is(SECOND_TYPE));
+
+        subscription.dispose();
+    }
+
+    @Test
+    void sharedTimerTest() {
+        final List<SunEvent> events = new ArrayList<>();
+        final Disposable first = scheduler.events(EQUATOR, EQUATOR_LOCATION).subscribe(events::add);
+        final Disposable second = scheduler.events(OTHER, EQUATOR_LOCATION).subscribe(events::add);
+
+        verify(timer, times(1)).newTimeout(any(), anyLong(), any());
+        assertThat(scheduler.size(), is(1));
+
+        final ArgumentCaptor<TimerTask> task = ArgumentCaptor.forClass(TimerTask.class);
+        verify(timer).newTimeout(task.capture(), anyLong(), any());
+        when(clock.millis()).thenReturn(millis(events.get(0)));
+        task.getValue().run(timeout);
+
+        assertThat(events.size(), is(4));
+        assertThat(events.stream().filter(event -> !event.isUpcoming()).count(), is(2L));
+
+        first.dispose();
+        verify(timeout, never()).cancel();
+        second.dispose();
+        verify(timeout, times(1)).cancel();
+        assertThat(scheduler.size(), is(0));
+    }
+
+    @Test
+    void resubscribeTest() {
+        final Flux<SunEvent> events = scheduler.events(EQUATOR, EQUATOR_LOCATION);
+        events.subscribe().dispose();
+        assertThat(scheduler.size(), is(0));
+
+        final Disposable first = events.subscribe();
+        final Disposable second = scheduler.events(OTHER, EQUATOR_LOCATION).subscribe();
+        assertThat(scheduler.size(), is(1));
+        verify(timer, times(2)).newTimeout(any(), anyLong(), any());
+
+        first.dispose();
+        assertThat(scheduler.size(), is(1));
+        second.dispose();
+        assertThat(scheduler.size(), is(0));
+    }
+
+    @Test
+    void polarDayTest() {
+        when(clock.millis()).thenReturn(SOLSTICE);
+
+        final List<SunEvent> events = new ArrayList<>();
+        final Disposable subscription = scheduler.events(NORTH_POLE, NORTH_POLE_LOCATION).subscribe(events::add);
+
+        assertThat(events.size(), is(0));
+        assertThat(SunEventScheduler.next(NORTH_POLE_LOCATION, SOLSTICE / 1000), is(nullValue()));
+        verify(timer, times(1)).newTimeout(any(), eq(TimeUnit.DAYS.toMillis(1)), eq(TimeUnit.MILLISECONDS));
+
+        subscription.dispose();
+    }
+
+    @Test
+    void closeTest() {
+        scheduler.close();
+
+        verify(timer, times(1)).stop();
+    }
+}
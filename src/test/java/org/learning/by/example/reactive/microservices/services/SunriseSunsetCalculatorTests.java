@@ -0,0 +1,73 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.model.GeoTimesResponse;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+import static org.learning.by.example.reactive.microservices.test.RestServiceHelper.getMonoFromJsonPath;
+
+@UnitTest
+@DisplayName("SunriseSunsetCalculator Unit Tests")
+class SunriseSunsetCalculatorTests {
+
+    private static final double GOOGLE_LAT = 37.4224082;
+    private static final double GOOGLE_LNG = -122.0856086;
+    private static final LocalDate FIXTURE_DATE = LocalDate.of(2017, 5, 21);
+    private static final double ARCTIC_LAT = 78.2232;
+    private static final double ARCTIC_LNG = 15.6267;
+    private static final LocalDate SUMMER_SOLSTICE = LocalDate.of(2017, 6, 21);
+    private static final LocalDate WINTER_SOLSTICE = LocalDate.of(2017, 12, 21);
+    private static final String NO_EVENT = "1970-01-01T00:00:01+00:00";
+    private static final long FULL_DAY = 86400L;
+    private static final long TOLERANCE_SECONDS = 60L;
+
+    private static final String JSON_OK = "/json/GeoTimesResponse_OK.json";
+    private static final GeoTimesResponse.Results EXPECTED = getMonoFromJsonPath(JSON_OK, GeoTimesResponse.class)
+            .block().getResults();
+
+    @Test
+    void calculateMatchesFixtureTest() {
+        final GeoTimesResponse.Results results = SunriseSunsetCalculator.calculate(GOOGLE_LAT, GOOGLE_LNG, FIXTURE_DATE);
+
+        assertClose(results.getSunrise(), EXPECTED.getSunrise());
+        assertClose(results.getSunset(), EXPECTED.getSunset());
+        assertClose(results.getSolarNoon(), EXPECTED.getSolarNoon());
+        assertClose(results.getCivilTwilightBegin(), EXPECTED.getCivilTwilightBegin());
+        assertClose(results.getCivilTwilightEnd(), EXPECTED.getCivilTwilightEnd());
+        assertClose(results.getNauticalTwilightBegin(), EXPECTED.getNauticalTwilightBegin());
+        assertClose(results.getNauticalTwilightEnd(), EXPECTED.getNauticalTwilightEnd());
+        assertClose(results.getAstronomicalTwilightBegin(), EXPECTED.getAstronomicalTwilightBegin());
+        assertClose(results.getAstronomicalTwilightEnd(), EXPECTED.getAstronomicalTwilightEnd());
+        assertThat(Math.abs(results.getDayLength() - EXPECTED.getDayLength()), lessThanOrEqualTo(2 * TOLERANCE_SECONDS));
+    }
+
+    @Test
+    void calculateMidnightSunTest() {
+        final GeoTimesResponse.Results results = SunriseSunsetCalculator.calculate(ARCTIC_LAT, ARCTIC_LNG, SUMMER_SOLSTICE);
+
+        assertThat(results.getSunrise(), is(NO_EVENT));
+        assertThat(results.getSunset(), is(NO_EVENT));
+        assertThat(results.getDayLength(), is(FULL_DAY));
+    }
+
+    @Test
+    void calculatePolarNightTest() {
+        final GeoTimesResponse.Results results = SunriseSunsetCalculator.calculate(ARCTIC_LAT, ARCTIC_LNG, WINTER_SOLSTICE);
+
+        assertThat(results.getSunrise(), is(NO_EVENT));
+        assertThat(results.getSunset(), is(NO_EVENT));
+        assertThat(results.getDayLength(), is(0L));
+    }
+
+    private static void assertClose(final String actual, final String expected) {
+        final long difference = OffsetDateTime.parse(actual).toEpochSecond() - OffsetDateTime.parse(expected).toEpochSecond();
+        assertThat(Math.abs(difference), lessThanOrEqualTo(TOLERANCE_SECONDS));
+    }
+}
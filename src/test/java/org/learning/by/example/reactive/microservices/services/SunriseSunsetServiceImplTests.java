@@ -2,6 +2,7 @@ package org.learning.by.example.reactive.microservices.services;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.exceptions.CircuitBreakerOpenException;
 import org.learning.by.example.reactive.microservices.exceptions.GetSunriseSunsetException;
 import org.learning.by.example.reactive.microservices.model.GeographicCoordinates;
 import org.learning.by.example.reactive.microservices.model.SunriseSunset;
@@ -9,8 +10,11 @@ import org.learning.by.example.reactive.microservices.model.GeoTimesResponse;
 import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -26,6 +30,7 @@ import static org.mockito.Mockito.*;
 class SunriseSunsetServiceImplTests {
 
     private static final String STATUS_OK = "OK";
+    private static final String CIRCUIT = "sunrise-sunset";
     private static final String BAD_EXCEPTION = "bad exception";
     private static final String SUNRISE_TIME = "2017-05-21T12:53:56+00:00";
     private static final String SUNSET_TIME = "2017-05-22T03:16:05+00:00";
@@ -35,6 +40,9 @@ class SunriseSunsetServiceImplTests {
     private static final Mono<GeographicCoordinates> GOOGLE_LOCATION_MONO = Mono.just(GOOGLE_LOCATION);
     private static final String GOOGLE_LOCATION_IN_PARAMS = "?lat=" + Double.toString(GOOGLE_LAT) +
             "&lng=" + Double.toString(GOOGLE_LNG)+"&date=today&formatted=0";
+    private static final LocalDate FIXTURE_DATE = LocalDate.of(2017, 5, 21);
+    private static final String GOOGLE_LOCATION_ON_DATE_IN_PARAMS = "?lat=" + Double.toString(GOOGLE_LAT) +
+            "&lng=" + Double.toString(GOOGLE_LNG) + "&date=2017-05-21&formatted=0";
 
     private static final String JSON_OK = "/json/GeoTimesResponse_OK.json";
     private static final String JSON_KO = "/json/GeoTimesResponse_KO.json";
@@ -176,6 +184,48 @@ class SunriseSunsetServiceImplTests {
         reset(sunriseSunsetService);
     }
 
+    @Test
+    void circuitOpenFallbackTest() {
+        final WebClient webClient = mockWebClient(WebClient.create(), BIG_EXCEPTION);
+        final CircuitBreaker circuitBreaker = CircuitBreaker.builder(CIRCUIT).windowSize(1).minimumCalls(1).build();
+        final SunriseSunsetServiceImpl service = new SunriseSunsetServiceImpl(endPoint, webClient,
+                TokenBucketRateLimiter.UNLIMITED, circuitBreaker, new LocalSunriseSunsetService());
+
+        final SunriseSunset failed = GOOGLE_LOCATION_MONO.transform(service::fromGeographicCoordinates)
+                .onErrorResume(throwable -> {
+                    assertThat(throwable, instanceOf(GetSunriseSunsetException.class));
+                    return Mono.empty();
+                }).block();
+
+        assertThat(failed, is(nullValue()));
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.OPEN));
+
+        final SunriseSunset fallback = service.fromGeographicCoordinates(GOOGLE_LOCATION_MONO, FIXTURE_DATE).block();
+
+        assertThat(fallback, is(notNullValue()));
+        assertThat(fallback.getSunrise(), is(notNullValue()));
+    }
+
+    @Test
+    void circuitOpenNoFallbackTest() {
+        final WebClient webClient = mockWebClient(WebClient.create(), BIG_EXCEPTION);
+        final CircuitBreaker circuitBreaker = CircuitBreaker.builder(CIRCUIT).windowSize(1).minimumCalls(1).build();
+        final SunriseSunsetServiceImpl service = new SunriseSunsetServiceImpl(endPoint, webClient,
+                TokenBucketRateLimiter.UNLIMITED, circuitBreaker, null);
+
+        GOOGLE_LOCATION_MONO.transform(service::fromGeographicCoordinates)
+                .onErrorResume(throwable -> Mono.empty()).block();
+
+        final SunriseSunset result = GOOGLE_LOCATION_MONO.transform(service::fromGeographicCoordinates)
+                .onErrorResume(throwable -> {
+                    assertThat(throwable, instanceOf(GetSunriseSunsetException.class));
+                    assertThat(throwable.getCause(), is(CircuitBreakerOpenException.CIRCUIT_OPEN));
+                    return Mono.empty();
+                }).block();
+
+        assertThat(result, is(nullValue()));
+    }
+
     @Test
     void buildUrlTest() {
         final String url = GOOGLE_LOCATION_MONO.transform(sunriseSunsetService::buildUrl).block();
@@ -183,4 +233,11 @@ class SunriseSunsetServiceImplTests {
         assertThat(url, is(notNullValue()));
         assertThat(url, is(endPoint.concat(GOOGLE_LOCATION_IN_PARAMS)));
     }
+
+    @Test
+    void buildUrlDateTest() {
+        final String url = sunriseSunsetService.buildUrl(GOOGLE_LOCATION_MONO, FIXTURE_DATE).block();
+
+        assertThat(url, is(endPoint.concat(GOOGLE_LOCATION_ON_DATE_IN_PARAMS)));
+    }
 }
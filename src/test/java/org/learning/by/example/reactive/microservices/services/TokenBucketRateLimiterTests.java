@@ -0,0 +1,103 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.exceptions.UpstreamRateLimitedException;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@UnitTest
+@DisplayName("TokenBucketRateLimiter Unit Tests")
+class TokenBucketRateLimiterTests {
+
+    private static final double RATE_PER_SECOND = 10;
+    private static final int BURST = 5;
+    private static final long MAX_WAIT = 250;
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final String VALUE = "value";
+
+    private AtomicLong nanoTime;
+    private TokenBucketRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setup() {
+        nanoTime = new AtomicLong();
+        rateLimiter = new TokenBucketRateLimiter(RATE_PER_SECOND, BURST, MAX_WAIT, nanoTime::get);
+    }
+
+    @Test
+    void burstTest() {
+        for (int i = 0; i < BURST; i++) {
+            assertThat(rateLimiter.reserve(), is(0L));
+        }
+    }
+
+    @Test
+    void queueTest() {
+        for (int i = 0; i < BURST; i++) {
+            rateLimiter.reserve();
+        }
+
+        assertThat(rateLimiter.reserve(), is(INTERVAL));
+        assertThat(rateLimiter.reserve(), is(2 * INTERVAL));
+        assertThat(rateLimiter.reserve(), is(TokenBucketRateLimiter.REJECTED));
+    }
+
+    @Test
+    void refillTest() {
+        for (int i = 0; i < BURST; i++) {
+            rateLimiter.reserve();
+        }
+        nanoTime.addAndGet(2 * INTERVAL);
+
+        assertThat(rateLimiter.reserve(), is(0L));
+        assertThat(rateLimiter.reserve(), is(0L));
+        assertThat(rateLimiter.reserve(), is(INTERVAL));
+    }
+
+    @Test
+    void failFastTest() {
+        final TokenBucketRateLimiter failFast = new TokenBucketRateLimiter(RATE_PER_SECOND, 1, 0, nanoTime::get);
+
+        assertThat(failFast.limit(Mono.just(VALUE)).block(), is(VALUE));
+
+        final String result = failFast.limit(Mono.just(VALUE))
+                .onErrorResume(throwable -> {
+                    assertThat(throwable, is(UpstreamRateLimitedException.RATE_LIMITED));
+                    return Mono.empty();
+                }).block();
+
+        assertThat(result, is(nullValue()));
+    }
+
+    @Test
+    void delayedTest() {
+        for (int i = 0; i < BURST; i++) {
+            rateLimiter.reserve();
+        }
+
+        assertThat(rateLimiter.limit(Mono.just(VALUE)).block(), is(VALUE));
+    }
+
+    @Test
+    void unlimitedTest() {
+        final Mono<String> mono = Mono.just(VALUE);
+
+        assertThat(TokenBucketRateLimiter.UNLIMITED.limit(mono), is(mono));
+    }
+
+    @Test
+    void invalidRateTest() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0, BURST, MAX_WAIT));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(RATE_PER_SECOND, 0, MAX_WAIT));
+    }
+}
@@ -0,0 +1,110 @@
+package org.learning.by.example.reactive.microservices.services;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.learning.by.example.reactive.microservices.test.tags.UnitTest;
+import org.mockito.ArgumentCaptor;
+import reactor.ipc.netty.resources.PoolResources;
+
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@UnitTest
+@DisplayName("UpstreamConnectionMetrics Unit Tests")
+class UpstreamConnectionMetricsTests {
+
+    private PoolResources poolResources;
+    private ChannelPool channelPool;
+    private ArgumentCaptor<Consumer<? super Channel>> onChannelCreate;
+    private UpstreamConnectionMetrics metrics;
+    private ChannelPool meteredPool;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        poolResources = mock(PoolResources.class);
+        channelPool = mock(ChannelPool.class);
+        onChannelCreate = ArgumentCaptor.forClass((Class) Consumer.class);
+        doReturn(channelPool).when(poolResources).selectOrCreate(any(), any(), onChannelCreate.capture(), any());
+        metrics = new UpstreamConnectionMetrics(poolResources);
+        meteredPool = metrics.selectOrCreate(null, null, channel -> {
+        }, null);
+    }
+
+    @Test
+    void pendingAcquireTest() {
+        final Promise<Channel> acquired = ImmediateEventExecutor.INSTANCE.newPromise();
+        doReturn(acquired).when(channelPool).acquire();
+
+        meteredPool.acquire();
+
+        assertThat(metrics.getPendingAcquires(), is(1));
+        assertThat(metrics.getActive(), is(0));
+        assertThat(metrics.getAcquires(), is(1L));
+
+        final Channel channel = new EmbeddedChannel();
+        acquired.setSuccess(channel);
+
+        assertThat(metrics.getPendingAcquires(), is(0));
+        assertThat(metrics.getActive(), is(1));
+
+        meteredPool.release(channel);
+
+        assertThat(metrics.getActive(), is(0));
+        verify(channelPool, times(1)).release(channel);
+    }
+
+    @Test
+    void failedAcquireTest() {
+        final Promise<Channel> acquired = ImmediateEventExecutor.INSTANCE.newPromise();
+        doReturn(acquired).when(channelPool).acquire();
+
+        meteredPool.acquire();
+        acquired.setFailure(new IllegalStateException());
+
+        assertThat(metrics.getPendingAcquires(), is(0));
+        assertThat(metrics.getActive(), is(0));
+    }
+
+    @Test
+    void idleConnectionTest() {
+        final Promise<Channel> acquired = ImmediateEventExecutor.INSTANCE.newPromise();
+        doReturn(acquired).when(channelPool).acquire();
+        final EmbeddedChannel channel = new EmbeddedChannel();
+
+        onChannelCreate.getValue().accept(channel);
+        meteredPool.acquire();
+        acquired.setSuccess(channel);
+
+        assertThat(metrics.getOpen(), is(1));
+        assertThat(metrics.getIdle(), is(0));
+
+        meteredPool.release(channel);
+
+        assertThat(metrics.getIdle(), is(1));
+
+        channel.close();
+
+        assertThat(metrics.getOpen(), is(0));
+        assertThat(metrics.getIdle(), is(0));
+    }
+
+    @Test
+    void disposeTest() {
+        metrics.dispose();
+        metrics.disposeLater();
+
+        verify(poolResources, times(1)).dispose();
+        verify(poolResources, times(1)).disposeLater();
+    }
+}
@@ -1,15 +1,19 @@
 package org.learning.by.example.reactive.microservices.test;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.util.UriBuilder;
 
 import java.net.URI;
+import java.util.List;
 import java.util.function.Function;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8;
+import static org.springframework.http.MediaType.APPLICATION_STREAM_JSON;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM;
 import static org.springframework.http.MediaType.TEXT_HTML;
 
 public abstract class BasicIntegrationTest {
@@ -36,6 +40,15 @@ public abstract class BasicIntegrationTest {
                 .expectBody().returnResult().getResponseBody());
     }
 
+    protected String get(final Function<UriBuilder, URI> builder, final MediaType mediaType) {
+        return new String(client.get()
+                .uri(builder)
+                .accept(mediaType).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(mediaType)
+                .expectBody().returnResult().getResponseBody());
+    }
+
     protected <T> T get(final Function<UriBuilder, URI> builder, final HttpStatus status, final Class<T> type) {
         return client.get()
                 .uri(builder)
@@ -50,6 +63,26 @@ public abstract class BasicIntegrationTest {
         return get(builder, HttpStatus.OK, type);
     }
 
+    protected <T> List<T> getStream(final Function<UriBuilder, URI> builder, final Class<T> type) {
+        return client.get()
+                .uri(builder)
+                .accept(APPLICATION_STREAM_JSON).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(APPLICATION_STREAM_JSON)
+                .returnResult(type)
+                .getResponseBody().collectList().block();
+    }
+
+    protected <T> List<T> getEvents(final Function<UriBuilder, URI> builder, final Class<T> type, final int count) {
+        return client.get()
+                .uri(builder)
+                .accept(TEXT_EVENT_STREAM).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(TEXT_EVENT_STREAM)
+                .returnResult(type)
+                .getResponseBody().take(count).collectList().block();
+    }
+
     protected <T, K> T post(final Function<UriBuilder, URI> builder, final HttpStatus status, final K object, final Class<T> type) {
         return client.post()
                 .uri(builder)
@@ -64,4 +97,15 @@ public abstract class BasicIntegrationTest {
     protected <T, K> T post(final Function<UriBuilder, URI> builder, final K object, final Class<T> type) {
         return post(builder, HttpStatus.OK, object, type);
     }
+
+    protected <T, K> List<T> postStream(final Function<UriBuilder, URI> builder, final K object, final Class<T> type) {
+        return client.post()
+                .uri(builder)
+                .body(BodyInserters.fromObject(object))
+                .accept(APPLICATION_STREAM_JSON).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(APPLICATION_STREAM_JSON)
+                .returnResult(type)
+                .getResponseBody().collectList().block();
+    }
 }
@@ -1,15 +1,45 @@
 package org.learning.by.example.reactive.microservices.test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.web.reactive.function.server.EntityResponse;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
 public class HandlersHelper {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     @SuppressWarnings("unchecked")
     public static <T> T extractEntity(final ServerResponse response, final Class<T> type) {
 
-        EntityResponse<Mono<T>> entityResponse = (EntityResponse<Mono<T>>) response;
+        EntityResponse<Mono<?>> entityResponse = (EntityResponse<Mono<?>>) response;
+
+        final Object entity = entityResponse.entity().block();
+        if (entity instanceof DataBuffer) {
+            return readEntity((DataBuffer) entity, type);
+        }
+        return type.cast(entity);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> extractEntities(final ServerResponse response, final Class<T> type) {
+
+        EntityResponse<Flux<T>> entityResponse = (EntityResponse<Flux<T>>) response;
+
+        return entityResponse.entity().map(type::cast).collectList().block();
+    }
 
-        return type.cast(entityResponse.entity().block());
+    private static <T> T readEntity(final DataBuffer dataBuffer, final Class<T> type) {
+        try {
+            return OBJECT_MAPPER.readValue(dataBuffer.asInputStream(), type);
+        } catch (IOException cause) {
+            throw new UncheckedIOException(cause);
+        }
     }
 }
@@ -7,6 +7,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Path;
@@ -44,6 +45,7 @@ public class RestServiceHelper {
 
         WebClient.RequestHeadersSpec<?> headerSpec = mock(WebClient.RequestHeadersSpec.class);
         doReturn(headerSpec).when(uriSpec).uri(anyString());
+        doReturn(headerSpec).when(uriSpec).uri(any(URI.class));
         doReturn(headerSpec).when(headerSpec).accept(any());
 
         ClientResponse clientResponse = mock(ClientResponse.class);
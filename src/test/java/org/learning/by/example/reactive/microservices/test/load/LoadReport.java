@@ -0,0 +1,53 @@
+package org.learning.by.example.reactive.microservices.test.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+public class LoadReport {
+
+    private static final double P50 = 50.0;
+    private static final double P99 = 99.0;
+    private static final double P999 = 99.9;
+
+    private final int targetRate;
+    private final long requests;
+    private final long errors;
+    private final Duration elapsed;
+    private final Histogram histogram;
+
+    LoadReport(final int targetRate, final long requests, final long errors, final Duration elapsed,
+               final Histogram histogram) {
+        this.targetRate = targetRate;
+        this.requests = requests;
+        this.errors = errors;
+        this.elapsed = elapsed;
+        this.histogram = histogram;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getThroughput() {
+        return requests * (double) TimeUnit.SECONDS.toNanos(1) / elapsed.toNanos();
+    }
+
+    public long getLatencyAtPercentile(final double percentile) {
+        return histogram.getValueAtPercentile(percentile);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("target=%d req/s, requests=%d, errors=%d, throughput=%.1f req/s, " +
+                        "p50=%d us, p99=%d us, p99.9=%d us, max=%d us",
+                targetRate, requests, errors, getThroughput(),
+                getLatencyAtPercentile(P50), getLatencyAtPercentile(P99), getLatencyAtPercentile(P999),
+                histogram.getMaxValue());
+    }
+}
@@ -0,0 +1,48 @@
+package org.learning.by.example.reactive.microservices.test.load;
+
+import org.HdrHistogram.Recorder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class OpenModelLoadGenerator {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final int ratePerSecond;
+    private final Duration duration;
+
+    public OpenModelLoadGenerator(final int ratePerSecond, final Duration duration) {
+        this.ratePerSecond = ratePerSecond;
+        this.duration = duration;
+    }
+
+    public LoadReport run(final Supplier<Mono<?>> request) {
+        final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        final LongAdder errors = new LongAdder();
+        final long period = NANOS_PER_SECOND / ratePerSecond;
+        final long total = duration.getSeconds() * ratePerSecond;
+        final long start = System.nanoTime();
+
+        Flux.interval(Duration.ofNanos(period))
+                .take(total)
+                .flatMap(tick -> {
+                    final long intendedStart = start + (tick + 1) * period;
+                    return request.get()
+                            .then()
+                            .doOnError(throwable -> errors.increment())
+                            .onErrorResume(throwable -> Mono.empty())
+                            .doFinally(signalType -> recorder.recordValue(
+                                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart)));
+                }, Integer.MAX_VALUE)
+                .blockLast();
+
+        return new LoadReport(ratePerSecond, total, errors.sum(), Duration.ofNanos(System.nanoTime() - start),
+                recorder.getIntervalHistogram());
+    }
+}
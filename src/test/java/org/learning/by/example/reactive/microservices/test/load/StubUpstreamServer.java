@@ -0,0 +1,58 @@
+package org.learning.by.example.reactive.microservices.test.load;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.ipc.netty.NettyContext;
+import reactor.ipc.netty.http.server.HttpServer;
+import reactor.ipc.netty.http.server.HttpServerResponse;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class StubUpstreamServer implements AutoCloseable {
+
+    private static final String LOCALHOST = "127.0.0.1";
+    private static final String PATH = "/json";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String APPLICATION_JSON = "application/json;charset=UTF-8";
+
+    private final NettyContext context;
+
+    public StubUpstreamServer(final String jsonPath, final Duration latency, final double errorRate) {
+        final String body = read(jsonPath);
+        this.context = HttpServer.create(LOCALHOST, 0)
+                .newHandler((request, response) -> Mono.delay(latency)
+                        .then(Mono.defer(() -> reply(response, body, errorRate))))
+                .block();
+    }
+
+    public String getEndPoint() {
+        return "http://" + LOCALHOST + ":" + context.address().getPort() + PATH;
+    }
+
+    @Override
+    public void close() {
+        context.dispose();
+    }
+
+    private static Mono<Void> reply(final HttpServerResponse response, final String body, final double errorRate) {
+        if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+            return response.status(HttpResponseStatus.INTERNAL_SERVER_ERROR).send().then();
+        }
+        return response.header(CONTENT_TYPE, APPLICATION_JSON).sendString(Mono.just(body)).then();
+    }
+
+    private static String read(final String jsonPath) {
+        try {
+            return new String(Files.readAllBytes(Paths.get(StubUpstreamServer.class.getResource(jsonPath).toURI())),
+                    StandardCharsets.UTF_8);
+        } catch (IOException | URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}